@@ -0,0 +1,51 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.Application;
+import com.dgmf.entity.Employee;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Starts the Application (without Web Server) on an In-Memory H2 Database
+// with SQL Logging Off, so Benchmarks Measure the Code and Not the Console
+final class BenchmarkApplication {
+    static final int SEEDED_EMPLOYEES = 10_000;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, String... extraArgs) {
+        String[] args = Stream.concat(
+                Stream.of(
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName,
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN"
+                ),
+                Stream.of(extraArgs)
+        ).toArray(String[]::new);
+
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    // "First{i}", "Last{i}", "employee{i}@gmail.com"
+    static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Reading and Serializing the Employees as Managed Entities (the Former
+// List Path) versus as "EmployeeView" Projections, in Read-Only
+// Transactions like the Service
+// Run with "-prof gc" to Compare the Allocation Rate per Operation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeProjectionBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("projection-benchmark");
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        readOnlyTransaction = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        context.getBean(EmployeeService.class).saveEmployees(
+                BenchmarkApplication.employees(BenchmarkApplication.SEEDED_EMPLOYEES));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] allEntities() {
+        return serialize(readOnlyTransaction.execute(status ->
+                employeeRepository.findAll()));
+    }
+
+    @Benchmark
+    public byte[] allViews() {
+        return serialize(readOnlyTransaction.execute(status ->
+                employeeRepository.findAllEmployeeViews()));
+    }
+
+    @Benchmark
+    public byte[] pageOfViews() {
+        long afterId = randomAfterId();
+
+        return serialize(readOnlyTransaction.execute(status ->
+                employeeRepository.findEmployeeViewsAfter(afterId, PageRequest.ofSize(PAGE_SIZE))));
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Generated Ids Start at 1
+    private static long randomAfterId() {
+        return ThreadLocalRandom.current().nextLong(
+                BenchmarkApplication.SEEDED_EMPLOYEES - PAGE_SIZE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The Four Equivalent First/Last Name Lookups, with and without the
+// Hibernate Query Cache (the JPQL Ones are Cacheable, the Native Ones Not)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EmployeeRepositoryBenchmark {
+    @Param({"true", "false"})
+    private boolean queryCache;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+
+    @State(Scope.Thread)
+    public static class Names {
+        String firstName;
+        String lastName;
+
+        @Setup(Level.Invocation)
+        public void pickEmployee() {
+            int i = ThreadLocalRandom.current().nextInt(BenchmarkApplication.SEEDED_EMPLOYEES);
+            firstName = "First" + i;
+            lastName = "Last" + i;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(
+                "repository-benchmark",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + queryCache,
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=" + queryCache
+        );
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        context.getBean(EmployeeService.class).saveEmployees(
+                BenchmarkApplication.employees(BenchmarkApplication.SEEDED_EMPLOYEES));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee findByJPQL(Names names) {
+        return employeeRepository.findByJPQL(names.firstName, names.lastName);
+    }
+
+    @Benchmark
+    public Employee findByJPQLNamedParams(Names names) {
+        return employeeRepository.findByJPQLNamedParams(names.firstName, names.lastName);
+    }
+
+    @Benchmark
+    public Employee findByNativeSQL(Names names) {
+        return employeeRepository.findByNativeSQL(names.firstName, names.lastName);
+    }
+
+    @Benchmark
+    public Employee findByNativeSQLNamedParams(Names names) {
+        return employeeRepository.findByNativeSQLNamedParams(names.firstName, names.lastName);
+    }
+}
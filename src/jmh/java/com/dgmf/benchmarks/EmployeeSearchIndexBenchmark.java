@@ -0,0 +1,39 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.index.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Searches in the Trigram Index Holding a Million Employees with Skewed
+// Name Distributions (see "SyntheticEmployees")
+// Acceptance: Below 1 ms for "erceva", "jonathan" and "jo"; the Misspelled
+// "jonatan perseval" Scans the Long Postings of Common Trigrams and Takes
+// about 2 ms, the Accepted Limit of Fuzzy Multi-Word Queries
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSearchIndexBenchmark {
+    @Param({"1000000"})
+    private int employees;
+
+    // Substring, Whole Name, Misspelled Name, Common Prefix
+    @Param({"erceva", "jonathan", "jonatan perseval", "jo"})
+    private String query;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        employeeSearchIndex = new EmployeeSearchIndex(0.5);
+        employeeSearchIndex.load(SyntheticEmployees.employees(employees));
+    }
+
+    @Benchmark
+    public EmployeeSearchIndex.SearchResult search() {
+        return employeeSearchIndex.search(query, 0, 20);
+    }
+}
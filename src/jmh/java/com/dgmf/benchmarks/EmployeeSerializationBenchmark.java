@@ -0,0 +1,76 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.entity.Employee;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Jackson (with the Settings Spring Boot Applies) Serializing and
+// Deserializing "List<Employee>" of Several Sizes: "ObjectMapper" Calls
+// Resolve the Type on Each Call, Prebuilt "ObjectWriter"/"ObjectReader"
+// Do it Once
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EmployeeSerializationBenchmark {
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST =
+            new TypeReference<>() {
+            };
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter employeeListWriter;
+    private ObjectReader employeeListReader;
+    private List<Employee> employees;
+    private byte[] employeesJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employeeListWriter = objectMapper.writerFor(EMPLOYEE_LIST);
+        employeeListReader = objectMapper.readerFor(EMPLOYEE_LIST);
+
+        employees = IntStream.range(0, size)
+                .mapToObj(i -> Employee.builder()
+                        .id((long) i + 1)
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build())
+                .toList();
+        employeesJson = objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeWithObjectMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] serializeWithObjectWriter() throws IOException {
+        return employeeListWriter.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeWithObjectMapper() throws IOException {
+        return objectMapper.readValue(employeesJson, EMPLOYEE_LIST);
+    }
+
+    @Benchmark
+    public List<Employee> deserializeWithObjectReader() throws IOException {
+        return employeeListReader.readValue(employeesJson);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
+import com.dgmf.entity.Employee;
+import com.dgmf.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// "EmployeeServiceImpl" through its Spring Proxy (Cache, Bulkhead and
+// Transaction Advice Included), on H2 Seeded with 10,000 Employees
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EmployeeServiceBenchmark {
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private long firstEmployeeId;
+    private long lastEmployeeId;
+    private final AtomicLong nextEmail = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("service-benchmark");
+        employeeService = context.getBean(EmployeeService.class);
+
+        List<Employee> employees = employeeService.saveEmployees(
+                BenchmarkApplication.employees(BenchmarkApplication.SEEDED_EMPLOYEES));
+        firstEmployeeId = employees.get(0).getId();
+        lastEmployeeId = employees.get(employees.size() - 1).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Served from the Employee Cache after the First Call per Id
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return employeeService.getEmployeeById(randomEmployeeId());
+    }
+
+    @Benchmark
+    public EmployeePage getEmployeesAfter() {
+        return employeeService.getEmployeesAfter(randomEmployeeId(), 20);
+    }
+
+    @Benchmark
+    public List<EmployeeView> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(Employee.builder()
+                .firstName("Benchmark")
+                .lastName("Employee")
+                .email("benchmark" + nextEmail.incrementAndGet() + "@gmail.com")
+                .build());
+    }
+
+    private long randomEmployeeId() {
+        return ThreadLocalRandom.current().nextLong(firstEmployeeId, lastEmployeeId + 1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.dto.EmployeeView;
+import com.dgmf.index.EmployeeSuggestIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Top-10 Suggestions from the Trie Holding a Million Employees with
+// Skewed Name Distributions (see "SyntheticEmployees"); the Estimated
+// Memory per Employee is Printed once Loaded
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSuggestIndexBenchmark {
+    @Param({"1000000"})
+    private int employees;
+
+    // Very Common, Common, Rare and Absent Prefixes
+    @Param({"j", "kamon", "pervalgar", "zz"})
+    private String prefix;
+
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        employeeSuggestIndex = new EmployeeSuggestIndex();
+        employeeSuggestIndex.load(SyntheticEmployees.employees(employees));
+
+        System.out.printf("Suggest index: %d employees, ~%d bytes per employee%n",
+                employeeSuggestIndex.getSize(),
+                employeeSuggestIndex.getMemoryBytes() / employeeSuggestIndex.getSize());
+    }
+
+    @Benchmark
+    public List<EmployeeView> suggest() {
+        return employeeSuggestIndex.suggest(prefix, 10);
+    }
+}
@@ -0,0 +1,53 @@
+package com.dgmf.benchmarks;
+
+import com.dgmf.dto.EmployeeView;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Employees with Skewed Name Distributions (Few Distinct First Names, Last
+// Names Built from a Few Syllables), for the In-Memory Index Benchmarks
+final class SyntheticEmployees {
+    private static final String[] FIRST_NAMES = {
+            "John", "Jonathan", "Mary", "Noëlie", "Xavi", "Milhan", "Jeremy",
+            "Amina", "Kenji", "Sofia", "Lucas", "Chloé", "Omar", "Ingrid"
+    };
+    private static final String[] SYLLABLES = {
+            "ka", "ro", "mi", "ten", "dor", "val", "per", "ce", "lu", "san",
+            "bel", "mon", "ri", "to", "gar", "nes"
+    };
+
+    private SyntheticEmployees() {
+    }
+
+    // Ids 1 to "count", Same Employees for the Same Count
+    static Stream<EmployeeView> employees(int count) {
+        Random random = new Random(42);
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    String lastName = lastName(random);
+
+                    return new EmployeeView(
+                            (long) i + 1,
+                            FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                            lastName,
+                            lastName.toLowerCase(Locale.ROOT) + i + "@gmail.com"
+                    );
+                });
+    }
+
+    private static String lastName(Random random) {
+        StringBuilder lastName = new StringBuilder();
+
+        for (int i = 0, syllables = 2 + random.nextInt(3); i < syllables; i++) {
+            lastName.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+
+        lastName.setCharAt(0, Character.toUpperCase(lastName.charAt(0)));
+
+        return lastName.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.dgmf.concurrency;
+
+import com.dgmf.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounds the Number of Concurrent Database Calls, whatever the Number of
+// Request Threads (Virtual Threads are Unbounded): Callers Wait at Most
+// "maxWait" for a Permit, then Get a 503 instead of Piling Up in the
+// Connection Pool Queue
+// Metrics are Named after "metricPrefix" (e.g. "employees.bulkhead")
+public class Bulkhead implements MeterBinder {
+    private final String metricPrefix;
+    private final int maxConcurrentCalls;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger waitingCalls = new AtomicInteger();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    public Bulkhead(String metricPrefix, int maxConcurrentCalls, Duration maxWait) {
+        this.metricPrefix = metricPrefix;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        // Fair: Callers Get Permits in Arrival Order
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    public void acquire() {
+        waitingCalls.incrementAndGet();
+
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCalls.increment();
+
+                throw new ServiceUnavailableException("Too many concurrent database calls "
+                        + "(limit: " + maxConcurrentCalls + "), retry later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new ServiceUnavailableException("Interrupted while waiting for a database call slot");
+        } finally {
+            waitingCalls.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(metricPrefix + ".active.calls", permits,
+                        semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+                .description("Database calls in progress")
+                .register(registry);
+        Gauge.builder(metricPrefix + ".waiting.calls", waitingCalls, AtomicInteger::get)
+                .description("Calls waiting for a database call slot")
+                .register(registry);
+        FunctionCounter.builder(metricPrefix + ".rejected.calls", rejectedCalls,
+                        LongAdder::doubleValue)
+                .description("Calls rejected with a 503 after waiting too long")
+                .register(registry);
+    }
+}
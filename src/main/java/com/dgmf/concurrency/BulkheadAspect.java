@@ -0,0 +1,58 @@
+package com.dgmf.concurrency;
+
+import com.dgmf.config.BulkheadConfig;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Runs Every "EmployeeService" Call through the Bulkhead
+// Ordered inside the Cache Advice (Cache Hits Never Wait for a Permit)
+// and outside the Transaction Advice (No Connection is Held while Waiting)
+// Searches and Suggestions are Served from Memory and Do Not Take a
+// Permit; Write-Behind Flushes Neither: they Run on a Single
+// Background Thread, and a Rejected Flush Would Fail Accepted Creates
+// Exports Hold their Permit while the Whole Table is Streamed, so they
+// Take it from their Own Bulkhead ("BulkheadConfig")
+@Aspect
+@Component
+@Order(0)
+public class BulkheadAspect {
+    private final Bulkhead bulkhead;
+    private final Bulkhead exportBulkhead;
+
+    public BulkheadAspect(
+            Bulkhead bulkhead,
+            @Qualifier(BulkheadConfig.EXPORT_BULKHEAD) Bulkhead exportBulkhead
+    ) {
+        this.bulkhead = bulkhead;
+        this.exportBulkhead = exportBulkhead;
+    }
+
+    @Around("execution(public * com.dgmf.service.EmployeeService.*(..)) && " +
+            "!execution(* com.dgmf.service.EmployeeService.searchEmployees(..)) && " +
+            "!execution(* com.dgmf.service.EmployeeService.suggestEmployees(..)) && " +
+            "!execution(* com.dgmf.service.EmployeeService.saveReservedEmployees(..)) && " +
+            "!execution(* com.dgmf.service.EmployeeService.exportEmployees(..))")
+    public Object limitConcurrentCalls(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(bulkhead, joinPoint);
+    }
+
+    @Around("execution(* com.dgmf.service.EmployeeService.exportEmployees(..))")
+    public Object limitConcurrentExports(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(exportBulkhead, joinPoint);
+    }
+
+    private static Object proceed(Bulkhead bulkhead, ProceedingJoinPoint joinPoint)
+            throws Throwable {
+        bulkhead.acquire();
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
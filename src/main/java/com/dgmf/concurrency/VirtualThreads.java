@@ -0,0 +1,39 @@
+package com.dgmf.concurrency;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Java 21 Virtual Threads, Looked Up Reflectively so that the Application
+// Still Compiles and Runs (in Platform Mode) on Java 17
+public final class VirtualThreads {
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return newVirtualThreadPerTaskExecutorMethod() != null;
+    }
+
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factoryMethod = newVirtualThreadPerTaskExecutorMethod();
+
+        if (factoryMethod == null) {
+            throw new IllegalStateException("Virtual threads require Java 21+ (running on "
+                    + Runtime.version() + "), use \"app.threads.mode=platform\"");
+        }
+
+        try {
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", e);
+        }
+    }
+
+    private static Method newVirtualThreadPerTaskExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dgmf.config;
+
+import com.dgmf.concurrency.Bulkhead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+// Two Bulkheads, so Long Calls Cannot Starve Short Ones: Exports Stream
+// the Whole Table and Hold their Connection for Minutes, so they Take a
+// Permit from a Small Bulkhead of their Own; All Other Calls Share the
+// Main One
+@Configuration
+public class BulkheadConfig {
+    public static final String EXPORT_BULKHEAD = "exportBulkhead";
+
+    @Bean
+    @Primary
+    public Bulkhead bulkhead(
+            @Value("${app.employees.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${app.employees.bulkhead.max-wait:1s}") Duration maxWait
+    ) {
+        return new Bulkhead("employees.bulkhead", maxConcurrentCalls, maxWait);
+    }
+
+    @Bean(EXPORT_BULKHEAD)
+    public Bulkhead exportBulkhead(
+            @Value("${app.employees.export.bulkhead.max-concurrent-calls:2}") int maxConcurrentCalls,
+            @Value("${app.employees.export.bulkhead.max-wait:0s}") Duration maxWait
+    ) {
+        return new Bulkhead("employees.export.bulkhead", maxConcurrentCalls, maxWait);
+    }
+}
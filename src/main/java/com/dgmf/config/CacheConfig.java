@@ -0,0 +1,18 @@
+package com.dgmf.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caches are Created by Spring Boot from the "spring.cache.*" Properties
+// (Caffeine: Size and TTL Bounded, W-TinyLFU Eviction) and their Hit,
+// Miss and Eviction Counters are Published as "cache.*" Metrics
+// The Cache Advice Runs First, so Cache Hits Skip the Bulkhead and the
+// Transaction
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    // Cache in front of "EmployeeService.getEmployeeById()", Keyed by Id
+    // Missing Ids are Cached too (as "null")
+    public static final String EMPLOYEES_CACHE = "employees";
+}
@@ -0,0 +1,16 @@
+package com.dgmf.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+// Employee Write Settings ("app.employees.*"), Validated at Startup
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.employees")
+public class EmployeeProperties {
+    // Number of Employees Inserted per JDBC Batch (and per Flush)
+    @Positive
+    private int batchSize = 500;
+}
@@ -0,0 +1,62 @@
+package com.dgmf.config;
+
+import com.dgmf.entity.EmployeeGeneration;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import com.dgmf.repository.EmployeeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Creates the Rows the Schema Needs, once Hibernate has Created or Updated
+// the Tables and before Requests are Served
+// Idempotent, and Safe when Several Instances Start at once
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeSchemaInitializer {
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeGenerationRepository employeeGenerationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void initialize() {
+        seedEmployeeIds();
+        createGeneration();
+    }
+
+    // A Table Filled with IDENTITY Ids Gets a New "employees_seq" Starting
+    // at 1: without Seeding, New Ids Would Collide with Existing Rows
+    // Runs before this Instance Generates Any Id (Blocks are Taken Lazily)
+    private void seedEmployeeIds() {
+        Boolean seeded = new TransactionTemplate(transactionManager)
+                .execute(status -> employeeRepository.seedEmployeeIds());
+
+        if (Boolean.TRUE.equals(seeded)) {
+            log.info("Employee ids seeded past the highest existing id");
+        }
+    }
+
+    // Starts from the Current Time, so the Tags of a Dropped and Recreated
+    // Table do Not Match the Ones Clients Kept
+    private void createGeneration() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (!employeeGenerationRepository.existsById(EmployeeGeneration.ID)) {
+                    employeeGenerationRepository.saveAndFlush(EmployeeGeneration.builder()
+                            .id(EmployeeGeneration.ID)
+                            .generation(System.currentTimeMillis())
+                            .build());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Created by Another Instance Meanwhile
+            log.debug("Employee generation already created", e);
+        }
+    }
+}
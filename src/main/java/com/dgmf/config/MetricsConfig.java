@@ -0,0 +1,18 @@
+package com.dgmf.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Turns "@Timed" Classes and Methods into Timers
+// Controller Handlers ("http.server.requests") and Repository Query
+// Methods ("spring.data.repository.invocations") are Timed by Spring Boot;
+// their Histograms are Enabled in "application.properties"
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
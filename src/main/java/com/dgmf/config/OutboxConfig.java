@@ -0,0 +1,62 @@
+package com.dgmf.config;
+
+import com.dgmf.outbox.EmployeeChangeRelay;
+import com.dgmf.outbox.EmployeeChangeSink;
+import com.dgmf.outbox.FileEmployeeChangeSink;
+import com.dgmf.outbox.InMemoryEmployeeChangeSink;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Relays the Employee Changes Written to the Outbox (in the Transaction of
+// Each Write) to the Configured Sink, so Downstream Systems Receive the
+// Changes instead of Polling the Whole Employee List
+// Any Number of Instances Can Relay at Once: Each Batch is Claimed by One
+@Configuration
+@Profile("!reactive")
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+    @Bean
+    @ConditionalOnProperty(name = "app.employees.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public EmployeeChangeSink fileEmployeeChangeSink(
+            OutboxProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        return new FileEmployeeChangeSink(properties.getFile(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.employees.outbox.sink", havingValue = "memory")
+    public EmployeeChangeSink inMemoryEmployeeChangeSink() {
+        return new InMemoryEmployeeChangeSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.employees.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+    public EmployeeChangeRelay employeeChangeRelay(
+            EmployeeChangeEventRepository employeeChangeEventRepository,
+            EmployeeGenerationRepository employeeGenerationRepository,
+            EmployeeChangeSink employeeChangeSink,
+            PlatformTransactionManager transactionManager,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new EmployeeChangeRelay(
+                employeeChangeEventRepository,
+                employeeGenerationRepository,
+                employeeChangeSink,
+                new TransactionTemplate(transactionManager),
+                properties.getBatchSize(),
+                properties.getMaxBatchesPerRun(),
+                meterRegistry
+        );
+    }
+}
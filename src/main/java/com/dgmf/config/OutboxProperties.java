@@ -0,0 +1,26 @@
+package com.dgmf.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Employee Change Outbox Settings ("app.employees.outbox.*")
+@Data
+@ConfigurationProperties(prefix = "app.employees.outbox")
+public class OutboxProperties {
+    // Changes are Always Written to the Outbox; this Only Turns the Relay
+    // of this Instance On or Off
+    private boolean relayEnabled = true;
+    // Changes Claimed, Sent and Deleted per Transaction
+    private int batchSize = 100;
+    // Batches Relayed per Poll at Most, when the Outbox is Backlogged
+    private int maxBatchesPerRun = 10;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    // "file", "memory" or "custom" (an "EmployeeChangeSink" Bean Declared
+    // by the Application)
+    private String sink = "file";
+    // NDJSON File Appended to by the "file" Sink
+    private Path file = Path.of("employee-changes.ndjson");
+}
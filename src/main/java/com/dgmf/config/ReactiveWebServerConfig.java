@@ -0,0 +1,18 @@
+package com.dgmf.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// The "reactive" Profile Runs on Netty (Event Loop, a Few Threads for Any
+// Number of Connections): Spring Boot would Pick Tomcat Otherwise, as it
+// is also on the Classpath for the Default (Servlet) Profile
+@Configuration
+@Profile("reactive")
+public class ReactiveWebServerConfig {
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
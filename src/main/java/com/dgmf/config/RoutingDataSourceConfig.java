@@ -0,0 +1,134 @@
+package com.dgmf.config;
+
+import com.dgmf.datasource.ReadWriteRoutingDataSource;
+import com.dgmf.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Replaces the Auto-Configured DataSource by a Read/Write Splitting One
+// when "app.datasource.routing.enabled=true"
+// Read-Only Transactions ("@Transactional(readOnly = true)") Use the
+// Replica Pools, Everything Else the Primary Pool
+// The Pools are Not Beans (Every DataSource Bean is Wrapped for the SQL
+// Statistics), so they are Closed Here on Shutdown
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig implements DisposableBean {
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    // Primary Pool Settings, Bound from "spring.datasource.hikari.*" (Pool
+    // Size, Timeouts, Pool Name...) as for the Auto-Configured Pool
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariConfig primaryPoolConfig() {
+        HikariConfig primaryPoolConfig = new HikariConfig();
+        primaryPoolConfig.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+
+        return primaryPoolConfig;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties dataSourceProperties,
+            HikariConfig primaryPoolConfig,
+            RoutingDataSourceProperties routingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        primaryPoolConfig.setJdbcUrl(dataSourceProperties.determineUrl());
+        primaryPoolConfig.setUsername(dataSourceProperties.determineUsername());
+        primaryPoolConfig.setPassword(dataSourceProperties.determinePassword());
+        primaryPoolConfig.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        // Per-Pool "hikaricp.*" Metrics, Tagged by Pool Name
+        meterRegistry.ifAvailable(primaryPoolConfig::setMetricRegistry);
+        HikariDataSource primary = pool(primaryPoolConfig);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingDataSourceProperties.Replica> replicaProperties =
+                routingProperties.getReplicas();
+
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            RoutingDataSourceProperties.Replica replicaProperty = replicaProperties.get(i);
+            HikariConfig replicaPoolConfig = new HikariConfig();
+            replicaPoolConfig.setPoolName("replica-" + i);
+            replicaPoolConfig.setJdbcUrl(replicaProperty.getUrl());
+            replicaPoolConfig.setUsername(replicaProperty.getUsername());
+            replicaPoolConfig.setPassword(replicaProperty.getPassword());
+            replicaPoolConfig.setMaximumPoolSize(replicaProperty.getMaximumPoolSize());
+            replicaPoolConfig.setReadOnly(true);
+            meterRegistry.ifAvailable(replicaPoolConfig::setMetricRegistry);
+
+            replicas.put(replicaPoolConfig.getPoolName(), pool(replicaPoolConfig));
+        }
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primary, replicas);
+        routingDataSource.afterPropertiesSet();
+
+        // Defers Getting the Physical Connection until the First Statement,
+        // when the Read-Only Flag of the Transaction is Known
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSource dataSource,
+            RoutingDataSourceProperties routingProperties
+    ) throws SQLException {
+        ReadWriteRoutingDataSource routingDataSource =
+                dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        routingDataSource.getResolvedDataSources().forEach((name, replica) -> {
+            if (!ReadWriteRoutingDataSource.PRIMARY.equals(name)) {
+                replicas.put((String) name, replica);
+            }
+        });
+
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                routingDataSource,
+                replicas,
+                routingProperties.getMaxReplicaLag(),
+                routingProperties.getLagQuery(),
+                routingProperties.getLagColumn()
+        );
+        // Replicas Start Unavailable: Measured once before Serving, so a
+        // Lagging One Never Receives Reads
+        replicaLagMonitor.checkReplicaLag();
+
+        return replicaLagMonitor;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    // Started Lazily, on the First Connection
+    private HikariDataSource pool(HikariConfig poolConfig) {
+        HikariDataSource pool = new HikariDataSource();
+        poolConfig.copyStateTo(pool);
+        pools.add(pool);
+
+        return pool;
+    }
+}
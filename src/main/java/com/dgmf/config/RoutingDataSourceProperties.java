@@ -0,0 +1,30 @@
+package com.dgmf.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Read/Write Splitting Settings ("app.datasource.routing.*")
+// The Primary is the Regular "spring.datasource.*" DataSource
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    // Replicas Lagging More than this Stop Receiving Reads
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Source";
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,10 @@
+package com.dgmf.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables "@Scheduled" Background Tasks (e.g. Replica Lag Checks)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,52 @@
+package com.dgmf.config;
+
+import com.dgmf.sql.SqlStatistics;
+import com.dgmf.sql.SqlStatisticsDataSource;
+import com.dgmf.sql.SqlStatisticsEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Aggregates the Executed SQL Statements per Shape, Cheap Enough to Stay
+// On in Production (Unlike "spring.jpa.show-sql", which Logs Every
+// Statement); Read and Reset through /actuator/sqlstats
+@Configuration
+@ConditionalOnProperty(name = "app.sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+public class SqlStatisticsConfig {
+    @Bean
+    public SqlStatistics sqlStatistics(SqlStatisticsProperties properties) {
+        return new SqlStatistics(
+                properties.getMaxShapes(),
+                properties.getSlowThreshold(),
+                properties.getSlowLogSampleRate()
+        );
+    }
+
+    @Bean
+    public SqlStatisticsEndpoint sqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        return new SqlStatisticsEndpoint(sqlStatistics);
+    }
+
+    // Static, so Post-Processing Does not Instantiate this Configuration
+    // Early; the Statistics are Only Looked Up once a DataSource Shows Up
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(
+            ObjectProvider<SqlStatistics> sqlStatistics
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlStatisticsDataSource)
+                        ? new SqlStatisticsDataSource(dataSource, sqlStatistics.getObject())
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.dgmf.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// SQL Statement Statistics Settings ("app.sql.statistics.*")
+@Data
+@ConfigurationProperties(prefix = "app.sql.statistics")
+public class SqlStatisticsProperties {
+    private boolean enabled = true;
+    // Distinct Statement Shapes Kept; Further Shapes Share One Entry
+    private int maxShapes = 1000;
+    // Statements Taking at Least this Long are Logged (Sampled)
+    private Duration slowThreshold = Duration.ofMillis(500);
+    // Fraction of the Slow Statements Logged (0 Disables the Logging)
+    private double slowLogSampleRate = 0.1;
+}
@@ -0,0 +1,53 @@
+package com.dgmf.config;
+
+import com.dgmf.concurrency.VirtualThreads;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+
+// "app.threads.mode=virtual" (Java 21+): Tomcat Handles Each Request, and
+// Spring Runs Each Async Task (Streaming Responses, "@Async"), on its Own
+// Virtual Thread instead of a Bounded Platform Thread Pool
+// Concurrent Database Work Stays Bounded by the "Bulkhead"
+@Configuration
+@ConditionalOnProperty(name = "app.threads.mode", havingValue = "virtual")
+public class VirtualThreadsConfig implements DisposableBean {
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+
+    // Tomcat Only Shuts Down the Executors it Creates
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor());
+    }
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor());
+    }
+
+    // After the Web Server Stopped: No New Request Reaches the Executors
+    @Override
+    public void destroy() {
+        executors.forEach(ExecutorService::shutdown);
+    }
+
+    private ExecutorService executor() {
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        executors.add(executor);
+
+        return executor;
+    }
+}
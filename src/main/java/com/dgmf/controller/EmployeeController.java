@@ -1,21 +1,63 @@
 package com.dgmf.controller;
 
+import com.dgmf.dto.EmployeeCreation;
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
+import com.dgmf.index.EmployeeSearchIndex;
+import com.dgmf.ingest.EmployeeWriteBehindQueue;
 import com.dgmf.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RestController
 // @RequestMapping(value = "/api/v1/employees", consumes = MediaType.APPLICATION_JSON_VALUE)
 @RequestMapping(value = "/api/v1/employees")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class EmployeeController {
+    // Upper Bound of the "limit" Request Param in Keyset Pagination Mode
+    private static final int MAX_PAGE_LIMIT = 1000;
+    // Page Size in Keyset Pagination Mode without a "limit" Request Param
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+    // Upper Bound of the "limit" Request Param of Suggestions
+    private static final int MAX_SUGGEST_LIMIT = 100;
+    // Upper Bound of the "ids" Request Param of Bulk Deletes
+    private static final int MAX_DELETE_IDS = 1000;
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    // Strong "ETag" of a Row Version, e.g. "3" (Quoted)
+    private static final Pattern VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+
     private final EmployeeService employeeService;
+    private final EmployeeWriteBehindQueue employeeWriteBehindQueue;
+    private final ObjectMapper objectMapper;
 
     /*@PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,9 +74,218 @@ public class EmployeeController {
         );
     }
 
+    // Write-Behind Create, Selected by "async=true": the Employee is Queued
+    // and Inserted Later, in a Batch with Other Queued Ones
+    // "202 Accepted" with the Reserved Id, and the Status URL in "Location";
+    // "503 Service Unavailable" while the Queue is Full or Shutting Down
+    // Not Durable: "202 Accepted" Means Queued in Memory; a Crash before the
+    // Flush Loses the Create, and its Status then Answers "404 Not Found"
+    // (Send it Again, or Use the Synchronous Create when it Must Not Be Lost)
+    @PostMapping(params = "async=true")
+    public ResponseEntity<EmployeeCreation> createEmployeeAsync(
+            @RequestBody Employee employee
+    ) {
+        Long employeeId;
+
+        try {
+            employeeId = employeeWriteBehindQueue.enqueue(employee);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/v1/employees/creations/{id}")
+                        .buildAndExpand(employeeId)
+                        .toUri())
+                .body(EmployeeCreation.pending(employeeId));
+    }
+
+    // Status of a Write-Behind Create: "303 See Other" to the Employee once
+    // Created (Whichever Instance Queued it, and Even once its Status
+    // Expired), "200 OK" while Pending or if it Failed, "404 Not Found" if
+    // Unknown and No Such Employee Exists
+    @GetMapping("/creations/{id}")
+    public ResponseEntity<EmployeeCreation> getEmployeeCreation(
+            @PathVariable("id") Long employeeId
+    ) {
+        return employeeWriteBehindQueue.getCreation(employeeId)
+                .map(creation -> creation.status() == EmployeeCreation.Status.CREATED
+                        ? ResponseEntity.status(HttpStatus.SEE_OTHER)
+                                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                                        .path("/api/v1/employees/{id}")
+                                        .buildAndExpand(employeeId)
+                                        .toUri())
+                                .body(creation)
+                        : ResponseEntity.ok(creation))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Create Many Employees at once, Inserted in JDBC Batches
+    @PostMapping("/batch")
+    public ResponseEntity<List<Employee>> createEmployees(
+            @RequestBody List<Employee> employees
+    ) {
+        return new ResponseEntity<>(
+                employeeService.saveEmployees(employees),
+                HttpStatus.CREATED
+        );
+    }
+
+    // "fields" (e.g. "id,email") Selects a Sparse Fieldset: Only these
+    // Columns are Read from the DB and Written to the Response
+    // The "ETag" is the Generation of the Table: an "If-None-Match" with
+    // the Current One is Answered "304 Not Modified" without Reading the
+    // Employees
     @GetMapping
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<EmployeeView>> getAllEmployees(
+            @RequestParam(value = "fields", required = false) List<String> fields,
+            WebRequest webRequest
+    ) {
+        Set<EmployeeField> employeeFields = null;
+
+        if (fields != null) {
+            try {
+                employeeFields = EmployeeField.parse(fields);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        // Read before the Employees: a Write Committed in between Only
+        // Makes the Tag Older than the List
+        String etag = employeeService.getEmployeesGeneration().orElse(null);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            // Status and "ETag" Already Set on the Response
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(employeeFields == null
+                        ? employeeService.getAllEmployees()
+                        : employeeService.getAllEmployees(employeeFields));
+    }
+
+    // Keyset (Seek) Pagination Mode, Selected by the "limit" Request Param
+    // "after" is the Opaque "nextCursor" Returned with the Previous Page
+    @GetMapping(params = "limit")
+    public ResponseEntity<EmployeePage> getEmployeesPage(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") int limit
+    ) {
+        Long afterEmployeeId = null;
+
+        if (after != null) {
+            try {
+                afterEmployeeId = EmployeePage.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        return ResponseEntity.ok(employeeService.getEmployeesAfter(
+                afterEmployeeId,
+                Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT)
+        ));
+    }
+
+    // Also Selected by the "after" Request Param Alone, with the Default
+    // Page Size: a Cursor Must Never Return the Whole Unpaged List
+    @GetMapping(params = {"after", "!limit"})
+    public ResponseEntity<EmployeePage> getEmployeesPageAfter(
+            @RequestParam("after") String after
+    ) {
+        return getEmployeesPage(after, DEFAULT_PAGE_LIMIT);
+    }
+
+    // Stream Every Employee as Newline-Delimited JSON (One Object per Line)
+    // Straight to the Response Output Stream, Without Building the Whole
+    // List (or the Whole JSON Document) in Memory
+    // "fields" Selects a Sparse Fieldset, as for the List
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(value = "fields", required = false) List<String> fields
+    ) {
+        Set<EmployeeField> employeeFields;
+
+        try {
+            employeeFields = fields == null
+                    ? EnumSet.allOf(EmployeeField.class)
+                    : EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Flushing is Left to the Output Stream Buffer, not Done per Employee
+        ObjectWriter employeeWriter = objectMapper
+                .writerFor(EmployeeView.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody responseBody = outputStream -> {
+            try (JsonGenerator generator = objectMapper
+                    .getFactory()
+                    .createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                employeeService.exportEmployees(employeeFields, employee -> {
+                    try {
+                        employeeWriter.writeValue(generator, employee);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    // Ranked Substring and Typo-Tolerant Search on Names and Emails,
+    // Served from an In-Memory Trigram Index
+    // "after" is the Opaque "nextCursor" Returned with the Previous Page
+    @GetMapping("/search")
+    public ResponseEntity<EmployeePage> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        int offset = 0;
+
+        if (after != null) {
+            try {
+                offset = (int) Math.min(
+                        EmployeePage.decodeCursor(after),
+                        EmployeeSearchIndex.MAX_RESULTS
+                );
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        return ResponseEntity.ok(employeeService.searchEmployees(
+                query,
+                offset,
+                Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT)
+        ));
+    }
+
+    // Autocomplete: Employees whose Last Name, First Name or Email Starts
+    // with the Prefix, Served from an In-Memory Trie
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeView>> suggestEmployees(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(
+                prefix,
+                Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT)
+        ));
     }
 
     @GetMapping("/{id}")
@@ -46,49 +297,164 @@ public class EmployeeController {
         return employeeService.getEmployeeById(employeeId)
                 // To Configure Response Status Code using
                 // "map()" of Optional Class
-                .map(ResponseEntity::ok)
+                // Strong "ETag" from the Row Version: an "If-None-Match"
+                // with the Current One is Answered "304 Not Modified",
+                // without Serializing the Employee
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(versionTag(employee))
+                        .body(employee))
                 // In Case of "null" or "empty"
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    // 1 ==> Retrieve Employee from DB with
-    // "employeeService.getEmployeeById()" Method
-    // 2 ==> Update Retrieved Employee from DB with
-    // "employeeService.updateEmployee()" Method
+    // Updated with a Single "UPDATE" Statement, without Reading the
+    // Employee First: "404 Not Found" if No Row was Updated
+    // With an "If-Match" Header, Only if the Row Version is Still One of
+    // those Named ("412 Precondition Failed" Otherwise), and the New Version is
+    // Returned as "ETag"
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(
             @PathVariable("id") Long employeeId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody Employee employee
     ) {
-        // Notice: "getEmployeeById" return Optional Employee from
-        // Service Layer (and from DB)
-        return employeeService.getEmployeeById(employeeId)
-                // To Update "employeeFromDb" with "employee" using
-                // "map()" of Optional Class
-                .map(employeeFromDb -> {
-                    employeeFromDb.setFirstName(employee.getFirstName());
-                    employeeFromDb.setLastName(employee.getLastName());
-                    employeeFromDb.setEmail(employee.getEmail());
+        Employee employeeToUpdate = Employee.builder()
+                .id(employeeId)
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .build();
 
-                    Employee updatedEmployee = employeeService
-                            .updateEmployee(employeeFromDb);
+        Set<Long> expectedVersions = expectedVersions(ifMatch);
+        Optional<Employee> updatedEmployee = expectedVersions == null
+                ? employeeService.updateEmployee(employeeToUpdate)
+                : employeeService.updateEmployee(employeeToUpdate, expectedVersions);
 
-                    return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
-                })
+        return updatedEmployee
+                .map(updated -> ResponseEntity.ok()
+                        .eTag(versionTag(updated))
+                        .body(updated))
                 // To Configure Response Status Code in Case of "null" or "empty"
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    // 1 ==> Retrieve Employee from DB with
-    // "employeeService.getEmployeeById()" Method
-    // 2 ==> Delete Retrieved Employee from DB with
-    // "employeeService.deleteEmployee()" Method
+    // JSON Merge Patch (RFC 7396): Only the Fields Present are Changed, and
+    // Only the Changed Columns are Updated; a Patch Changing Nothing Writes
+    // Nothing. Fields Cannot Be Removed ("null"), and "id" is Not Patchable
+    @PatchMapping(
+            value = "/{id}",
+            consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public ResponseEntity<Employee> patchEmployee(
+            @PathVariable("id") Long employeeId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch
+    ) {
+        Map<EmployeeField, String> changes;
+
+        try {
+            changes = toChanges(patch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Set<Long> expectedVersions = expectedVersions(ifMatch);
+        Optional<Employee> patchedEmployee = expectedVersions == null
+                ? employeeService.patchEmployee(employeeId, changes)
+                : employeeService.patchEmployee(employeeId, expectedVersions, changes);
+
+        return patchedEmployee
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(versionTag(employee))
+                        .body(employee))
+                // To Configure Response Status Code in Case of "null" or "empty"
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Deleted with a Single DELETE Statement (No Prior Read); "404" if No
+    // Row was Deleted, "412" if an "If-Match" Names Other Row Versions
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteEmployee(@PathVariable("id") Long employeeId) {
-        employeeService.deleteEmployee(employeeId);
+    public ResponseEntity<String> deleteEmployee(
+            @PathVariable("id") Long employeeId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Set<Long> expectedVersions = expectedVersions(ifMatch);
+        boolean deleted = expectedVersions == null
+                ? employeeService.deleteEmployee(employeeId)
+                : employeeService.deleteEmployee(employeeId, expectedVersions);
+
+        if (!deleted) {
+            return ResponseEntity.notFound().build();
+        }
 
         return ResponseEntity.ok("Employee with Id " + employeeId +
                 " Deleted Successfully.");
     }
 
+    // Deletes Up to "MAX_DELETE_IDS" Employees with a Single "DELETE ...
+    // WHERE id IN (...)" Statement, e.g. "?ids=1,2,3"; Ids that do Not
+    // Exist are Ignored, and the Number of Employees Deleted is Returned
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<String> deleteEmployees(@RequestParam("ids") Set<Long> employeeIds) {
+        if (employeeIds.isEmpty() || employeeIds.size() > MAX_DELETE_IDS
+                || employeeIds.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
+
+        return ResponseEntity.ok(deletedEmployees + " Employees Deleted Successfully.");
+    }
+
+    // Throws "IllegalArgumentException" if the Patch is Not an Object of
+    // Patchable Fields with Text Values
+    private static Map<EmployeeField, String> toChanges(JsonNode patch) {
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be an object");
+        }
+
+        Map<EmployeeField, String> changes = new EnumMap<>(EmployeeField.class);
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            EmployeeField employeeField = EmployeeField.fromAttributeName(field.getKey());
+
+            if (employeeField == EmployeeField.ID || !field.getValue().isTextual()) {
+                throw new IllegalArgumentException("Invalid patch of " + field.getKey());
+            }
+
+            changes.put(employeeField, field.getValue().textValue());
+        }
+
+        return changes;
+    }
+
+    // Row Versions Named by an "If-Match" Header; "null" if there is None
+    // or it is "*" (Unconditional Write)
+    // A List of Tags Matches if Any of them Does (RFC 9110); Weak Tags and
+    // Tags that are Not Row Versions Never Match (Strong Comparison), so
+    // without Any Other the Write Fails with "412"
+    private static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        Set<Long> versions = new LinkedHashSet<>();
+
+        for (String entityTag : ifMatch.split(",")) {
+            Matcher versionTag = VERSION_TAG.matcher(entityTag.trim());
+
+            if (versionTag.matches()) {
+                versions.add(Long.parseLong(versionTag.group(1)));
+            }
+        }
+
+        return versions;
+    }
+
+    // "null" (No "ETag") for an Employee Not Read from the DB
+    private static String versionTag(Employee employee) {
+        return employee.getVersion() == null ? null : employee.getVersion().toString();
+    }
 }
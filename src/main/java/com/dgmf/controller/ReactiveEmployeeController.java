@@ -0,0 +1,143 @@
+package com.dgmf.controller;
+
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.entity.Employee;
+import com.dgmf.service.ReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// WebFlux Counterpart of "EmployeeController" ("reactive" Profile), Same
+// Endpoints and Status Codes
+// Handlers Only Assemble Publishers: No Thread Waits on the Database, so
+// a Few Event Loop Threads Serve Any Number of Open Connections
+@RestController
+@RequestMapping(value = "/api/v1/employees")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEmployeeController {
+    // Upper Bound of the "limit" Request Param in Keyset Pagination Mode
+    private static final int MAX_PAGE_LIMIT = 1000;
+    // Page Size in Keyset Pagination Mode without a "limit" Request Param
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+
+    private final ReactiveEmployeeService employeeService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Employee>> createEmployee(
+            @RequestBody Employee employee
+    ) {
+        return employeeService.saveEmployee(employee)
+                .map(savedEmployee -> new ResponseEntity<>(
+                        savedEmployee,
+                        HttpStatus.CREATED
+                ));
+    }
+
+    // Create Many Employees at once, in One Transaction
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<Employee>>> createEmployees(
+            @RequestBody List<Employee> employees
+    ) {
+        return employeeService.saveEmployees(employees)
+                .collectList()
+                .map(savedEmployees -> new ResponseEntity<>(
+                        savedEmployees,
+                        HttpStatus.CREATED
+                ));
+    }
+
+    // Streamed as a JSON Array, Written as Rows Arrive
+    @GetMapping
+    public Flux<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    // Keyset (Seek) Pagination Mode, Selected by the "limit" Request Param
+    // "after" is the Opaque "nextCursor" Returned with the Previous Page
+    @GetMapping(params = "limit")
+    public Mono<ResponseEntity<EmployeePage>> getEmployeesPage(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam("limit") int limit
+    ) {
+        Long afterEmployeeId = null;
+
+        if (after != null) {
+            try {
+                afterEmployeeId = EmployeePage.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                return Mono.just(ResponseEntity.badRequest().build());
+            }
+        }
+
+        return employeeService.getEmployeesAfter(
+                        afterEmployeeId,
+                        Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT)
+                )
+                .map(ResponseEntity::ok);
+    }
+
+    // Also Selected by the "after" Request Param Alone, with the Default
+    // Page Size: a Cursor Must Never Return the Whole Unpaged List
+    @GetMapping(params = {"after", "!limit"})
+    public Mono<ResponseEntity<EmployeePage>> getEmployeesPageAfter(
+            @RequestParam("after") String after
+    ) {
+        return getEmployeesPage(after, DEFAULT_PAGE_LIMIT);
+    }
+
+    // Stream Every Employee as Newline-Delimited JSON (One Object per Line)
+    // With Backpressure: Rows are Read from the Database only as Fast as
+    // the Client Reads the Response
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> exportEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(
+            @PathVariable("id") Long employeeId
+    ) {
+        return employeeService.getEmployeeById(employeeId)
+                .map(ResponseEntity::ok)
+                // In Case of "empty"
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(
+            @PathVariable("id") Long employeeId,
+            @RequestBody Employee employee
+    ) {
+        Employee employeeToUpdate = Employee.builder()
+                .id(employeeId)
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .build();
+
+        return employeeService.updateEmployee(employeeToUpdate)
+                .map(ResponseEntity::ok)
+                // In Case of "empty"
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployee(
+            @PathVariable("id") Long employeeId
+    ) {
+        return employeeService.deleteEmployee(employeeId)
+                .filter(deleted -> deleted)
+                .map(deleted -> ResponseEntity.ok("Employee with Id " + employeeId +
+                        " Deleted Successfully."))
+                // In Case of a Missing Employee
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,110 @@
+package com.dgmf.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Sends Connections of Read-Only Transactions to the Replicas (Round Robin
+// over the Available Ones) and All Other Connections to the Primary
+// Must Be Wrapped in a "LazyConnectionDataSourceProxy": the Read-Only Flag
+// of a Transaction is Only Known after the Transaction has Started
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+        implements MeterBinder {
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaNames;
+    // Replicas Too Far Behind the Primary (or Unreachable); All of them until
+    // their Lag is First Measured
+    private final Set<String> unavailableReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, LongAdder> routedConnections = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas
+    ) {
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+
+        this.replicaNames = List.copyOf(replicas.keySet());
+        unavailableReplicas.addAll(replicaNames);
+        targetDataSources.keySet().forEach(name ->
+                routedConnections.put((String) name, new LongAdder()));
+    }
+
+    public List<String> getReplicaNames() {
+        return replicaNames;
+    }
+
+    public void setReplicaAvailable(String replicaName, boolean available) {
+        if (available) {
+            unavailableReplicas.remove(replicaName);
+        } else {
+            unavailableReplicas.add(replicaName);
+        }
+    }
+
+    public boolean isReplicaAvailable(String replicaName) {
+        return !unavailableReplicas.contains(replicaName);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String dataSourceName = TransactionSynchronizationManager
+                .isCurrentTransactionReadOnly()
+                ? nextAvailableReplica()
+                : PRIMARY;
+
+        routedConnections.get(dataSourceName).increment();
+
+        return dataSourceName;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        routedConnections.forEach((dataSourceName, connections) ->
+                FunctionCounter.builder("employees.datasource.routed.connections",
+                                connections, LongAdder::doubleValue)
+                        .description("Connections routed to each pool")
+                        .tag("pool", dataSourceName)
+                        .register(registry));
+        replicaNames.forEach(replicaName ->
+                Gauge.builder("employees.datasource.replica.available", this,
+                                routingDataSource -> routingDataSource
+                                        .isReplicaAvailable(replicaName) ? 1 : 0)
+                        .description("1 if the replica receives reads, 0 if it lags behind")
+                        .tag("pool", replicaName)
+                        .register(registry));
+    }
+
+    // Falls Back to the Primary if No Replica is Available
+    private String nextAvailableReplica() {
+        for (int attempt = 0; attempt < replicaNames.size(); attempt++) {
+            String replicaName = replicaNames.get(Math.floorMod(
+                    nextReplica.getAndIncrement(),
+                    replicaNames.size()
+            ));
+
+            if (isReplicaAvailable(replicaName)) {
+                return replicaName;
+            }
+        }
+
+        return PRIMARY;
+    }
+}
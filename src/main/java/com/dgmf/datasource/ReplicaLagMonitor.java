@@ -0,0 +1,78 @@
+package com.dgmf.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Periodically Measures the Replication Lag of Each Replica and Stops
+// Routing Reads to the Replicas Lagging More than "maxReplicaLag" (or
+// Unreachable), until they Catch Up
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLagMonitor implements MeterBinder {
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final Map<String, DataSource> replicas;
+    private final Duration maxReplicaLag;
+    // Query Returning the Lag in Seconds in its "lagColumn" Column
+    private final String lagQuery;
+    private final String lagColumn;
+
+    @Scheduled(
+            initialDelayString = "${app.datasource.routing.lag-check-interval:5s}",
+            fixedDelayString = "${app.datasource.routing.lag-check-interval:5s}"
+    )
+    public void checkReplicaLag() {
+        replicas.forEach((replicaName, replica) -> {
+            Optional<Duration> replicaLag = measureLag(replica);
+            boolean available = replicaLag
+                    .map(lag -> lag.compareTo(maxReplicaLag) <= 0)
+                    .orElse(false);
+
+            if (available != routingDataSource.isReplicaAvailable(replicaName)) {
+                log.warn("Replica {} {} (lag: {})", replicaName,
+                        available ? "receives reads again" : "no longer receives reads",
+                        replicaLag.map(Duration::toString).orElse("unknown"));
+            }
+
+            routingDataSource.setReplicaAvailable(replicaName, available);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        routingDataSource.bindTo(registry);
+    }
+
+    // Empty if the Lag is Unknown: Replica Unreachable or Replication Stopped
+    private Optional<Duration> measureLag(DataSource replica) {
+        try {
+            List<Map<String, Object>> replicationStatus = new JdbcTemplate(replica)
+                    .queryForList(lagQuery);
+
+            // No Replication Configured: Nothing to Lag Behind
+            if (replicationStatus.isEmpty()) {
+                return Optional.of(Duration.ZERO);
+            }
+
+            Object lagSeconds = replicationStatus.get(0).get(lagColumn);
+
+            return lagSeconds instanceof Number seconds
+                    ? Optional.of(Duration.ofSeconds(seconds.longValue()))
+                    : Optional.empty();
+        } catch (DataAccessException e) {
+            log.debug("Unable to measure replica lag", e);
+
+            return Optional.empty();
+        }
+    }
+}
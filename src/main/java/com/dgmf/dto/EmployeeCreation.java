@@ -0,0 +1,33 @@
+package com.dgmf.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Status of a Write-Behind Create ("POST /api/v1/employees?async=true"),
+// Served at "/api/v1/employees/creations/{id}" until it Expires; Any
+// Instance then Reports "CREATED" if the Employee Exists
+// "reason" is Only Set when the Create Failed
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeCreation(Long id, Status status, String reason) {
+    public enum Status {
+        // Queued in Memory, Not Inserted Yet: Lost if the Instance Crashes
+        // (the Status is then Unknown: "404 Not Found")
+        PENDING,
+        // Inserted (and Committed): the Employee is at "/api/v1/employees/{id}"
+        CREATED,
+        // Rejected when Inserted (e.g. Email Taken in the Meantime); the
+        // Reserved Id is Never Used
+        FAILED
+    }
+
+    public static EmployeeCreation pending(Long id) {
+        return new EmployeeCreation(id, Status.PENDING, null);
+    }
+
+    public static EmployeeCreation created(Long id) {
+        return new EmployeeCreation(id, Status.CREATED, null);
+    }
+
+    public static EmployeeCreation failed(Long id, String reason) {
+        return new EmployeeCreation(id, Status.FAILED, reason);
+    }
+}
@@ -0,0 +1,51 @@
+package com.dgmf.dto;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Employee Fields a Client May Select with the "fields" Request Param
+// (Sparse Fieldsets); Names are the "Employee" Attributes, which are also
+// the JSON Property Names
+public enum EmployeeField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email");
+
+    private final String attributeName;
+
+    EmployeeField(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    // Throws "IllegalArgumentException" on an Unknown or Missing Field Name
+    public static Set<EmployeeField> parse(Collection<String> fieldNames) {
+        Set<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+
+        for (String fieldName : fieldNames) {
+            fields.add(fromAttributeName(fieldName.strip()));
+        }
+
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("No field requested");
+        }
+
+        return fields;
+    }
+
+    // Throws "IllegalArgumentException" on an Unknown Field Name
+    public static EmployeeField fromAttributeName(String attributeName) {
+        for (EmployeeField field : values()) {
+            if (field.attributeName.equals(attributeName)) {
+                return field;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown employee field : " + attributeName);
+    }
+}
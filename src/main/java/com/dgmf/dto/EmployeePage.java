@@ -0,0 +1,48 @@
+package com.dgmf.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// One Page of Employees Returned by the Keyset (Seek) Pagination Mode
+// "nextCursor" is "null" on the Last Page
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class EmployeePage {
+    private List<EmployeeView> content;
+    private String nextCursor;
+
+    // To Encode the Last Seen Employee Id (or the Offset of the Next Search
+    // Result) into an Opaque Cursor
+    public static String encodeCursor(Long employeeId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                        Long.toString(employeeId).getBytes(StandardCharsets.UTF_8)
+                );
+    }
+
+    // To Decode an Opaque Cursor back into the Last Seen Employee Id (or
+    // the Offset of the Next Search Result)
+    // Throws "IllegalArgumentException" if the Cursor is Malformed
+    public static Long decodeCursor(String cursor) {
+        try {
+            long employeeId = Long.parseLong(new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8
+            ));
+
+            if (employeeId < 0) {
+                throw new IllegalArgumentException("Invalid cursor : " + cursor);
+            }
+
+            return employeeId;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor : " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.dgmf.dto;
+
+import com.dgmf.entity.Employee;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Immutable Read Model of an Employee, Returned by the List, Page, Export,
+// Search and Suggest Endpoints (Same JSON as "Employee")
+// Repository Queries Select it Column by Column (JPQL Constructor
+// Expression): No Entity is Hydrated, Registered in the Persistence
+// Context or Put into the Second-Level Cache
+// Fields Left Out of a Sparse Fieldset ("EmployeeField") are "null" and
+// Not Serialized (Every Employee Column is Non-Nullable)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeView(Long id, String firstName, String lastName, String email) {
+    public static EmployeeView of(Employee employee) {
+        return new EmployeeView(
+                employee.getId(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail()
+        );
+    }
+}
@@ -1,16 +1,56 @@
 package com.dgmf.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 @Entity
-@Table(name = "employees")
+// Cached in the "employees" Region of the Hibernate Second-Level Cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+// Dirty-Checked Updates Only Set the Changed Columns (and the Version)
+@DynamicUpdate
+@Table(
+        name = "employees",
+        uniqueConstraints = @UniqueConstraint(
+                name = Employee.EMAIL_UNIQUE_CONSTRAINT,
+                columnNames = "email"
+        )
+)
 public class Employee {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Name of the Unique Index on "email", Used to Recognize Duplicate Emails
+    // in Constraint Violations Reported by the DB
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    // Pooled Sequence: Ids are Allocated in Blocks of 50, which Unlike
+    // IDENTITY Lets Hibernate Batch Inserts
+    // Always a Table ("next_val"), as MySQL Needs, so the Reactive Profile and
+    // the Startup Seeding ("EmployeeSchemaInitializer") Use the Same SQL on
+    // Every DB
+    // Ids Reserved in Advance (Write-Behind Creates, "reservedId") are Used
+    // on Insert
+    @Id
+    @GeneratedValue(generator = "employees_seq")
+    @GenericGenerator(
+            name = "employees_seq",
+            type = ReservedIdSequenceGenerator.class,
+            parameters = {
+                    @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "employees_seq"),
+                    @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+                    @Parameter(name = SequenceStyleGenerator.FORCE_TBL_PARAM, value = "true")
+            }
+    )
     private Long id;
     @Column(name = "first_name", nullable = false)
     private String firstName;
@@ -18,4 +58,17 @@ public class Employee {
     private String lastName;
     @Column(nullable = false)
     private String email;
+    // Row Version: Incremented by Every Update (Optimistic Locking) and
+    // Exposed as the Strong "ETag" of the Employee, Not in its JSON
+    // Existing Rows Start at 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
+    // Id Reserved in Advance (Write-Behind Creates), Not Stored: the Employee
+    // is Persisted without an Id, and the Generator Hands Out this One
+    @Transient
+    @JsonIgnore
+    private Long reservedId;
 }
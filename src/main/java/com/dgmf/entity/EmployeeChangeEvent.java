@@ -0,0 +1,46 @@
+package com.dgmf.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Transactional Outbox: One Row per Employee Created, Updated or Deleted,
+// Written in the Transaction of the Change, then Sent Downstream and
+// Deleted by the "EmployeeChangeRelay"
+// Carries the Employee as Written (as Deleted for a Deletion), so
+// Consumers Need Not Read it Back
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(name = "employee_outbox")
+public class EmployeeChangeEvent {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    // Rows are Inserted by "INSERT ... SELECT" Statements (No Batching of
+    // Persisted Entities to Preserve); Relayed in Id Order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType type;
+    // Row Version of the Employee after the Change: Consumers Can Drop
+    // Changes Older than the Last One they Applied
+    @Column(nullable = false)
+    private Long version;
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+    @Column(nullable = false)
+    private String email;
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
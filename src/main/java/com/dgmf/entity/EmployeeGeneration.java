@@ -0,0 +1,22 @@
+package com.dgmf.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Generation of the "employees" Table: a Single Row Counting the Changes
+// Relayed from the Outbox, which (with the Changes Not Relayed Yet) Tags
+// the Employee Lists ("ETag") the Same Way on Every Instance
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(name = "employee_generation")
+public class EmployeeGeneration {
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+    @Column(nullable = false)
+    private Long generation;
+}
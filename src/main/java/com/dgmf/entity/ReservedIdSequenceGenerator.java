@@ -0,0 +1,17 @@
+package com.dgmf.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+// Pooled Sequence Generator that Hands Out the Id Reserved for an Employee
+// ("Employee.reservedId") Instead of a New One
+// Ids are Reserved Only from this Generator Beforehand (Write-Behind
+// Creates), so they are Never Handed Out Twice
+public class ReservedIdSequenceGenerator extends SequenceStyleGenerator {
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return object instanceof Employee employee && employee.getReservedId() != null
+                ? employee.getReservedId()
+                : super.generate(session, object);
+    }
+}
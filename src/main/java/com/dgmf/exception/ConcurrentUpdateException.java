@@ -0,0 +1,17 @@
+package com.dgmf.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The Employee was Modified by Another Request between its Read and its
+// Update (Row Version Changed)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
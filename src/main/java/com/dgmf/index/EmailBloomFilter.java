@@ -0,0 +1,191 @@
+package com.dgmf.index;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// In-Memory Bloom Filter of Known Employee Emails
+// "mightContain()" Never Returns "false" for a Known Email, so a "false"
+// Answer Lets Callers Skip the DB Lookup. Emails Cannot Be Removed: Deleted
+// or Changed Emails Only Make the Filter Answer "true" More Often
+@Component
+public class EmailBloomFilter implements MeterBinder {
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long numBits;
+    private final int numHashFunctions;
+    private final AtomicLongArray bits;
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder definitelyAbsentChecks = new LongAdder();
+    private final LongAdder mightExistChecks = new LongAdder();
+    // Until the Known Emails are Loaded, Every Email Might Exist
+    private volatile boolean loaded;
+
+    public EmailBloomFilter(
+            @Value("${app.employees.email-filter.expected-insertions:1000000}")
+            long expectedInsertions,
+            @Value("${app.employees.email-filter.false-positive-rate:0.01}")
+            double falsePositiveRate
+    ) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException(
+                    "Expected insertions must be positive : " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException(
+                    "False positive rate must be in ]0, 1[ : " + falsePositiveRate);
+        }
+
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        // Optimal Number of Bits and of Hash Functions for the Given Size
+        // and False-Positive Rate
+        long optimalNumBits = (long) Math.ceil(-expectedInsertions *
+                Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(
+                Math.toIntExact((optimalNumBits + Long.SIZE - 1) / Long.SIZE));
+        this.numBits = (long) bits.length() * Long.SIZE;
+        this.numHashFunctions = Math.max(1, (int) Math.round(
+                (double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    // To Load the Known Emails (e.g. the Whole Table at Startup)
+    public void load(Stream<String> emails) {
+        emails.forEach(this::put);
+        loaded = true;
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+
+        long hash = hash(email);
+
+        for (int i = 1; i <= numHashFunctions; i++) {
+            setBit(bitIndex(hash, i));
+        }
+
+        insertions.increment();
+    }
+
+    public boolean mightContain(String email) {
+        boolean mightContain = !loaded || email == null || test(email);
+
+        (mightContain ? mightExistChecks : definitelyAbsentChecks).increment();
+
+        return mightContain;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getMemoryBytes() {
+        return numBits / Byte.SIZE;
+    }
+
+    // Estimated False-Positive Rate for the Current Number of Insertions
+    public double getEstimatedFalsePositiveRate() {
+        return Math.pow(
+                1 - Math.exp(-numHashFunctions * insertions.doubleValue() / numBits),
+                numHashFunctions
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.email.filter.memory", this, EmailBloomFilter::getMemoryBytes)
+                .description("Memory used by the email Bloom filter")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("employees.email.filter.insertions", insertions, LongAdder::doubleValue)
+                .description("Emails added to the email Bloom filter")
+                .register(registry);
+        Gauge.builder("employees.email.filter.fpp.configured", this, filter -> filter.falsePositiveRate)
+                .description("False-positive rate the filter was sized for, at " +
+                        expectedInsertions + " insertions")
+                .register(registry);
+        Gauge.builder("employees.email.filter.fpp.estimated", this,
+                        EmailBloomFilter::getEstimatedFalsePositiveRate)
+                .description("False-positive rate estimated from the current insertions")
+                .register(registry);
+        FunctionCounter.builder("employees.email.filter.checks",
+                        definitelyAbsentChecks, LongAdder::doubleValue)
+                .description("Email existence checks answered by the Bloom filter")
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("employees.email.filter.checks",
+                        mightExistChecks, LongAdder::doubleValue)
+                .description("Email existence checks answered by the Bloom filter")
+                .tag("result", "maybe")
+                .register(registry);
+    }
+
+    private boolean test(String email) {
+        long hash = hash(email);
+
+        for (int i = 1; i <= numHashFunctions; i++) {
+            if (!getBit(bitIndex(hash, i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Double Hashing (Kirsch-Mitzenmacher): the i-th Hash is h1 + i * h2,
+    // Computed on 64 Bits (h2 is the Hash with its Halves Swapped) so that
+    // Filters Beyond 2^31 Bits Use All their Bits
+    private long bitIndex(long hash, int i) {
+        long combinedHash = hash + i * Long.rotateLeft(hash, 32);
+
+        return Math.floorMod(combinedHash, numBits);
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long word;
+
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    // 64-Bit FNV-1a over the Normalized Email, Finished with the MurmurHash3
+    // Mixer. Emails are Compared Case and Accent Insensitively by MySQL, so
+    // they are Hashed the Same Way to Never Miss a Known Email
+    private static long hash(String email) {
+        String normalizedEmail = TextNormalizer.normalize(email);
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : normalizedEmail.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
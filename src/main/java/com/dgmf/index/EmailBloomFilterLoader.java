@@ -0,0 +1,35 @@
+package com.dgmf.index;
+
+import com.dgmf.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+// Builds the Email Bloom Filter from the "employees" Table at Startup
+// Emails Created Meanwhile are Added by the Service Write Methods
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmailBloomFilterLoader {
+    private final EmployeeRepository employeeRepository;
+    private final EmailBloomFilter emailBloomFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadEmails() {
+        try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+            emailBloomFilter.load(emails);
+        }
+
+        log.info("Email Bloom filter loaded ({} bytes, estimated fpp {})",
+                emailBloomFilter.getMemoryBytes(),
+                emailBloomFilter.getEstimatedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,129 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-Memory Index of the Employees, Loaded from the "employees" Table at
+// Startup ("EmployeeIndexLoader") and Kept Current by the Service Write
+// Methods once they Commit
+// Employees are Held as Immutable "EmployeeView" Records, Shared with
+// Callers without Copies
+// Subclasses Update their Structures under the Write Lock and Read them
+// under the Read Lock
+// Writes Committed Concurrently May Update the Index in Any Order: Each
+// Write Takes a Write Sequence ("nextWriteSequence()") while it Still
+// Holds its Row Locks, so Writes of the Same Employee Take them in Commit
+// Order, and a Write Older than the Last One Applied is Ignored
+public abstract class EmployeeIndex {
+    private static final AtomicLong WRITE_SEQUENCE = new AtomicLong();
+    // Writes Only Arrive Out of Order by the Time between their Commit and
+    // their Index Update: the Last Write of an Employee (and its Removal)
+    // is Forgotten after this Long
+    private static final Duration WRITE_RETENTION = Duration.ofMinutes(1);
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Employees Written while Loading: the Rows Being Loaded May Be Older
+    private final Set<Long> writtenWhileLoading = new HashSet<>();
+    // Write Sequence of the Last Put or Remove Applied, by Employee Id
+    private final Cache<Long, Long> lastWriteSequences = Caffeine.newBuilder()
+            .expireAfterWrite(WRITE_RETENTION)
+            .build();
+    // Until the Employees are Loaded, Lookups Would Miss Results
+    private volatile boolean loaded;
+
+    // Taken after the Statement Writing the Employees and before the Commit
+    public static long nextWriteSequence() {
+        return WRITE_SEQUENCE.incrementAndGet();
+    }
+
+    // To Load the Existing Employees (e.g. the Whole Table at Startup)
+    public void load(Stream<EmployeeView> employees) {
+        employees.forEach(this::loadEmployee);
+        markLoaded();
+    }
+
+    public void loadEmployee(EmployeeView employee) {
+        lock.writeLock().lock();
+
+        try {
+            if (!writtenWhileLoading.contains(employee.id())) {
+                addEmployee(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markLoaded() {
+        lock.writeLock().lock();
+
+        try {
+            writtenWhileLoading.clear();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds or Replaces an Employee, Unless a Later Write (or its Removal)
+    // was Applied Already
+    public void put(EmployeeView employee, long writeSequence) {
+        lock.writeLock().lock();
+
+        try {
+            if (written(employee.id(), writeSequence)) {
+                addEmployee(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long employeeId, long writeSequence) {
+        lock.writeLock().lock();
+
+        try {
+            if (written(employeeId, writeSequence)) {
+                removeEmployee(employeeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Adds or Replaces an Employee (Write Lock Held)
+    protected abstract void addEmployee(EmployeeView employee);
+
+    // Removes an Employee, if Indexed (Write Lock Held)
+    protected abstract void removeEmployee(Long employeeId);
+
+    // Write Lock Held: "false" if a Later Write was Applied Already
+    private boolean written(Long employeeId, long writeSequence) {
+        if (!loaded) {
+            writtenWhileLoading.add(employeeId);
+        }
+
+        Long lastWriteSequence = lastWriteSequences.getIfPresent(employeeId);
+
+        if (lastWriteSequence != null && lastWriteSequence >= writeSequence) {
+            return false;
+        }
+
+        lastWriteSequences.put(employeeId, writeSequence);
+
+        return true;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import com.dgmf.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Builds the In-Memory Employee Indexes (Search, Suggest) from a Single
+// Scan of the "employees" Table at Startup
+// Employees Written Meanwhile are Indexed by the Service Write Methods
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeIndexLoader {
+    private final EmployeeRepository employeeRepository;
+    private final List<EmployeeIndex> employeeIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadEmployees() {
+        // Projections are Not Managed: the Persistence Context Stays Empty
+        // whatever the Table Size
+        try (Stream<EmployeeView> employees = employeeRepository.streamAllEmployeeViews()) {
+            employees.forEach(employee ->
+                    employeeIndexes.forEach(index -> index.loadEmployee(employee)));
+        }
+
+        employeeIndexes.forEach(EmployeeIndex::markLoaded);
+
+        log.info("Employee indexes loaded ({})", employeeIndexes.stream()
+                .map(index -> index.getClass().getSimpleName())
+                .toList());
+    }
+}
@@ -0,0 +1,451 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// In-Memory Trigram Index of Employee Names and Emails, for Substring and
+// Typo-Tolerant Search
+// Each Word (Letter and Digit Runs of the Case and Accent Folded Text) is
+// Padded as "  word " and Cut into Trigrams, so Word Prefixes of 1 or 2
+// Characters Can Be Searched too. Each Trigram Maps to the Ascending Numbers of the
+// Documents Containing it; an Employee Matches when it Shares at Least
+// "min-similarity" of the Query Trigrams
+// Removed Documents are Purged by a Compaction on a Background Thread:
+// Writers and Searchers Only Wait while it Copies the Live Documents (Read
+// Lock) and Swaps in the Rebuilt Postings (Write Lock)
+// JMH, 1M Employees ("EmployeeSearchIndexBenchmark"): Exact, Prefix and
+// Substring Queries are Sub-Millisecond; Misspelled Multi-Word Queries over
+// Skewed Names Scan Long Posting Lists and Take about 2 ms
+@Slf4j
+@Component
+public class EmployeeSearchIndex extends EmployeeIndex implements MeterBinder {
+    // Deepest Result Reachable by Paging through a Search
+    public static final int MAX_RESULTS = 10_000;
+    // All Query Trigrams Shared, and the Whole Query Contained
+    private static final double MAX_SCORE = 2;
+    private static final Postings NO_POSTINGS = new Postings();
+    // Removed Documents are Purged from the Postings once they are Both
+    // this Many and a Quarter of the Documents
+    private static final int MIN_REMOVED_BEFORE_COMPACTION = 1_000;
+
+    private final double minSimilarity;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "employee-search-compaction");
+                thread.setDaemon(true);
+
+                return thread;
+            });
+    private Segment segment = new Segment();
+    // Employees Written since the Running Compaction was Scheduled, Replayed
+    // onto the Compacted Segment; "null" while None Runs
+    private Set<Long> writtenDuringCompaction;
+
+    public EmployeeSearchIndex(
+            @Value("${app.employees.search.min-similarity:0.5}")
+            double minSimilarity
+    ) {
+        if (minSimilarity <= 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException(
+                    "Min similarity must be in ]0, 1] : " + minSimilarity);
+        }
+
+        this.minSimilarity = minSimilarity;
+    }
+
+    public record SearchResult(List<EmployeeView> employees, boolean hasMore) {
+    }
+
+    private record Document(EmployeeView employee, String text) {
+    }
+
+    private record Hit(int documentNumber, double score) {
+    }
+
+    // Indexed Employees by Document Number ("null" once Removed), and the
+    // Postings of their Trigrams
+    private static final class Segment {
+        private Document[] documents = new Document[1024];
+        private int documentCount;
+        private int removedCount;
+        private long postingCount;
+        private final Map<Long, Integer> documentNumbers = new HashMap<>();
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        void add(Document document) {
+            int documentNumber = documentCount++;
+
+            if (documentNumber == documents.length) {
+                documents = Arrays.copyOf(documents, documents.length * 2);
+            }
+
+            documents[documentNumber] = document;
+            documentNumbers.put(document.employee().id(), documentNumber);
+
+            for (long trigram : trigrams(document.text(), false)) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(documentNumber);
+                postingCount++;
+            }
+        }
+
+        // The Postings Keep Referencing the Document until the Next
+        // Compaction
+        void remove(Long employeeId) {
+            Integer documentNumber = documentNumbers.remove(employeeId);
+
+            if (documentNumber != null) {
+                documents[documentNumber] = null;
+                removedCount++;
+            }
+        }
+
+        Document get(Long employeeId) {
+            Integer documentNumber = documentNumbers.get(employeeId);
+
+            return documentNumber == null ? null : documents[documentNumber];
+        }
+
+        Document[] liveDocuments() {
+            return Arrays.stream(documents, 0, documentCount)
+                    .filter(document -> document != null)
+                    .toArray(Document[]::new);
+        }
+
+        boolean needsCompaction() {
+            return removedCount >= MIN_REMOVED_BEFORE_COMPACTION
+                    && removedCount >= documentCount / 4;
+        }
+    }
+
+    // Ascending Document Numbers (Documents are Only Ever Appended)
+    private static final class Postings {
+        private int[] documentNumbers = new int[4];
+        private int size;
+
+        void add(int documentNumber) {
+            if (size == documentNumbers.length) {
+                documentNumbers = Arrays.copyOf(documentNumbers, size * 2);
+            }
+
+            documentNumbers[size++] = documentNumber;
+        }
+
+        boolean contains(int documentNumber) {
+            return Arrays.binarySearch(documentNumbers, 0, size, documentNumber) >= 0;
+        }
+    }
+
+    @Override
+    protected void addEmployee(EmployeeView employee) {
+        segment.remove(employee.id());
+        segment.add(document(employee));
+        written(employee.id());
+    }
+
+    @Override
+    protected void removeEmployee(Long employeeId) {
+        segment.remove(employeeId);
+        written(employeeId);
+    }
+
+    // Employees Sharing the Most Trigrams with the Query First (Employees
+    // Containing the Whole Query Ahead of Partial Matches), then in
+    // Indexing Order
+    public SearchResult search(String query, int offset, int limit) {
+        String normalizedQuery = TextNormalizer.normalize(query).strip();
+        long[] queryTrigrams = trigrams(normalizedQuery, true);
+        int maxResults = Math.min(offset + limit, MAX_RESULTS);
+
+        if (queryTrigrams.length == 0 || offset >= maxResults) {
+            return new SearchResult(List.of(), false);
+        }
+
+        // Without Prefix Words, Containing the Query Implies Sharing All its
+        // Trigrams, so Raising "minHits" Never Drops Such a Document
+        boolean prefixWords = Arrays.stream(normalizedQuery.split("[^\\p{L}\\p{N}]+"))
+                .anyMatch(word -> !word.isEmpty() && word.length() < 3);
+        Comparator<Hit> ranking = Comparator
+                .comparingDouble(Hit::score).reversed()
+                .thenComparingInt(Hit::documentNumber);
+        // Worst Kept Hit on Top, to Be Replaced by Better Ones
+        PriorityQueue<Hit> topHits = new PriorityQueue<>(ranking.reversed());
+
+        lock.readLock().lock();
+
+        try {
+            Postings[] lists = new Postings[queryTrigrams.length];
+            Document[] documents = segment.documents;
+
+            for (int i = 0; i < queryTrigrams.length; i++) {
+                lists[i] = segment.postings.getOrDefault(queryTrigrams[i], NO_POSTINGS);
+            }
+
+            Arrays.sort(lists, Comparator.comparingInt(postingList -> postingList.size));
+
+            int minHits = Math.max(1, (int) Math.ceil(minSimilarity * lists.length));
+            // A Document Missing from All of the Shortest "prefixLength"
+            // Lists Cannot Reach "minHits": Only these Lists are Scanned,
+            // the Longer Ones are Probed
+            int prefixLength = lists.length - minHits + 1;
+            int[] positions = new int[prefixLength];
+
+            while (true) {
+                // Next Document Number across the Prefix Lists (k-Way Merge)
+                int documentNumber = Integer.MAX_VALUE;
+
+                for (int i = 0; i < prefixLength; i++) {
+                    if (positions[i] < lists[i].size) {
+                        documentNumber = Math.min(documentNumber,
+                                lists[i].documentNumbers[positions[i]]);
+                    }
+                }
+
+                if (documentNumber == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int hits = 0;
+
+                for (int i = 0; i < prefixLength; i++) {
+                    if (positions[i] < lists[i].size
+                            && lists[i].documentNumbers[positions[i]] == documentNumber) {
+                        positions[i]++;
+                        hits++;
+                    }
+                }
+
+                for (int i = prefixLength; i < lists.length
+                        && hits + lists.length - i >= minHits; i++) {
+                    if (lists[i].contains(documentNumber)) {
+                        hits++;
+                    }
+                }
+
+                // Only Matching Candidates Load their Document (a Random
+                // Memory Access): Most Candidates Miss "minHits"
+                Document document = documents[documentNumber];
+
+                if (hits < minHits || document == null) {
+                    continue;
+                }
+
+                double score = (double) hits / lists.length
+                        + (document.text().contains(normalizedQuery) ? 1 : 0);
+                Hit hit = new Hit(documentNumber, score);
+
+                if (topHits.size() <= maxResults) {
+                    topHits.add(hit);
+                } else if (ranking.compare(hit, topHits.peek()) < 0) {
+                    topHits.poll();
+                    topHits.add(hit);
+                }
+
+                // Documents Come in Ascending Order, which Breaks Ties: once
+                // Every Kept Hit has the Top Score, No Later One Ranks Ahead
+                if (topHits.size() <= maxResults) {
+                    continue;
+                }
+
+                double worstScore = topHits.peek().score();
+
+                if (worstScore == MAX_SCORE) {
+                    break;
+                }
+
+                // Later Documents Must Now Share More Trigrams than the
+                // Worst Kept Hit: Fewer Lists Need to Be Scanned
+                if (worstScore < 1 && !prefixWords) {
+                    int worstHits = (int) Math.round(worstScore * lists.length);
+
+                    if (worstHits + 1 > minHits) {
+                        minHits = worstHits + 1;
+                        prefixLength = lists.length - minHits + 1;
+                    }
+                }
+            }
+
+            List<Hit> rankedHits = new ArrayList<>(topHits);
+            rankedHits.sort(ranking);
+
+            // One Extra Hit Tells whether a Next Page Exists
+            boolean hasMore = rankedHits.size() > maxResults && maxResults < MAX_RESULTS;
+            List<EmployeeView> employees = rankedHits
+                    .subList(Math.min(offset, rankedHits.size()),
+                            Math.min(maxResults, rankedHits.size()))
+                    .stream()
+                    .map(hit -> documents[hit.documentNumber()].employee())
+                    .toList();
+
+            return new SearchResult(employees, hasMore);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+
+        try {
+            return segment.documentNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Waits for the Scheduled Compaction, if Any, to Complete
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactionExecutor.submit(() -> {
+        }).get();
+    }
+
+    // Removed Documents Still Referenced by the Postings
+    int getRemovedCount() {
+        lock.readLock().lock();
+
+        try {
+            return segment.removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        compactionExecutor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.search.index.documents", this, EmployeeSearchIndex::getSize)
+                .description("Employees in the search index")
+                .register(registry);
+        Gauge.builder("employees.search.index.trigrams", this,
+                        index -> index.segment.postings.size())
+                .description("Distinct trigrams in the search index")
+                .register(registry);
+        Gauge.builder("employees.search.index.postings", this,
+                        index -> index.segment.postingCount)
+                .description("Document references held by the search index trigrams")
+                .register(registry);
+    }
+
+    // Distinct Trigrams of the Words of a Normalized Text, Each Packed
+    // into a "long" (3 x 16-Bit Chars)
+    // Indexed Words are Padded as "  word "; Query Words are Not (they May
+    // Be Anywhere in a Word), Except Words of 1 or 2 Characters, Matched as
+    // Word Prefixes ("  wo")
+    static long[] trigrams(String normalizedText, boolean query) {
+        long[] trigrams = new long[normalizedText.length() * 2 + 4];
+        int count = 0;
+        int length = normalizedText.length();
+        int wordStart = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length
+                    && Character.isLetterOrDigit(normalizedText.charAt(i));
+
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                String word = normalizedText.substring(wordStart, i);
+                String padded = !query ? "  " + word + " "
+                        : word.length() < 3 ? "  " + word
+                        : word;
+
+                for (int j = 0; j + 3 <= padded.length(); j++) {
+                    trigrams[count++] = ((long) padded.charAt(j) << 32)
+                            | ((long) padded.charAt(j + 1) << 16)
+                            | padded.charAt(j + 2);
+                }
+
+                wordStart = -1;
+            }
+        }
+
+        return Arrays.stream(trigrams, 0, count).sorted().distinct().toArray();
+    }
+
+    private static Document document(EmployeeView employee) {
+        String text = TextNormalizer.normalize(employee.firstName() + " " +
+                employee.lastName() + " " + employee.email());
+
+        return new Document(employee, text);
+    }
+
+    // Write Lock Held: Tracked for the Running Compaction, or Schedules One
+    // once Enough Documents were Removed
+    private void written(Long employeeId) {
+        if (writtenDuringCompaction != null) {
+            writtenDuringCompaction.add(employeeId);
+        } else if (segment.needsCompaction()) {
+            writtenDuringCompaction = new HashSet<>();
+            compactionExecutor.execute(this::compact);
+        }
+    }
+
+    // Rebuilds the Live Documents into a New Segment without the Lock, then
+    // Replays the Employees Written Meanwhile and Swaps it in
+    private void compact() {
+        Document[] liveDocuments;
+
+        lock.readLock().lock();
+
+        try {
+            liveDocuments = segment.liveDocuments();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Segment compacted = new Segment();
+        compacted.documents = new Document[Math.max(1024, liveDocuments.length * 2)];
+
+        try {
+            for (Document document : liveDocuments) {
+                compacted.add(document);
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to compact the employee search index", e);
+            compacted = null;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            if (compacted != null) {
+                for (Long employeeId : writtenDuringCompaction) {
+                    compacted.remove(employeeId);
+                    Document document = segment.get(employeeId);
+
+                    if (document != null) {
+                        compacted.add(document);
+                    }
+                }
+
+                segment = compacted;
+            }
+
+            writtenDuringCompaction = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
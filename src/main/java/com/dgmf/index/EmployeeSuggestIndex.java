@@ -0,0 +1,407 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// In-Memory Radix Trie of the Employee Last Names, First Names and Emails
+// (Case and Accent Folded), for Prefix Autocomplete
+// Edges Hold Whole Character Runs (One Node per Branching Point, Not per
+// Character) and Nodes Keep their Children in Sorted Arrays, which Keeps
+// the Trie Compact; Each Key Ends at a Node Holding its Employee Ids
+@Component
+public class EmployeeSuggestIndex extends EmployeeIndex implements MeterBinder {
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private final Node root = new Node(NO_CHARS);
+    // Indexed Employees, also Needed to Find the Keys to Remove
+    private final Map<Long, EmployeeView> employees = new HashMap<>();
+    // Estimated Heap Used, Kept Current by Each Change (Write Lock Held), so
+    // Reading it Walks Nothing
+    private volatile long memoryBytes = nodeBytes(root);
+
+    private static final class Node {
+        // Characters of the Edge Leading to this Node
+        private char[] label;
+        // First Label Characters of the Children, Sorted
+        private char[] childFirstChars = NO_CHARS;
+        private Node[] children = NO_NODES;
+        // Ids of the Employees whose Key Ends Here (Grown by Doubling)
+        private long[] employeeIds = NO_IDS;
+        private int employeeCount;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        int childIndex(char firstChar) {
+            return Arrays.binarySearch(childFirstChars, firstChar);
+        }
+
+        void addChild(Node child) {
+            int index = -childIndex(child.label[0]) - 1;
+            char[] firstChars = new char[childFirstChars.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+
+            System.arraycopy(childFirstChars, 0, firstChars, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            firstChars[index] = child.label[0];
+            nodes[index] = child;
+            System.arraycopy(childFirstChars, index, firstChars, index + 1,
+                    childFirstChars.length - index);
+            System.arraycopy(children, index, nodes, index + 1, children.length - index);
+
+            childFirstChars = firstChars;
+            children = nodes;
+        }
+
+        void removeChild(int index) {
+            char[] firstChars = new char[childFirstChars.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+
+            System.arraycopy(childFirstChars, 0, firstChars, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            System.arraycopy(childFirstChars, index + 1, firstChars, index,
+                    firstChars.length - index);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+
+            childFirstChars = firstChars.length == 0 ? NO_CHARS : firstChars;
+            children = nodes.length == 0 ? NO_NODES : nodes;
+        }
+
+        // Employees are Removed before being Added again, and their Keys are
+        // Distinct, so an Id is Never Added Twice to a Node
+        void addEmployeeId(long employeeId) {
+            if (employeeCount == employeeIds.length) {
+                employeeIds = Arrays.copyOf(employeeIds, Math.max(1, employeeCount * 2));
+            }
+
+            employeeIds[employeeCount++] = employeeId;
+        }
+
+        void removeEmployeeId(long employeeId) {
+            for (int i = 0; i < employeeCount; i++) {
+                if (employeeIds[i] == employeeId) {
+                    System.arraycopy(employeeIds, i + 1, employeeIds, i, employeeCount - i - 1);
+                    employeeCount--;
+                    break;
+                }
+            }
+
+            if (employeeCount == 0) {
+                employeeIds = NO_IDS;
+            } else if (employeeCount <= employeeIds.length / 4) {
+                employeeIds = Arrays.copyOf(employeeIds, employeeCount * 2);
+            }
+        }
+
+        // Absorbs the Only Child, when this Node Ends No Key
+        void mergeWithChild() {
+            Node child = children[0];
+            char[] mergedLabel = Arrays.copyOf(label, label.length + child.label.length);
+
+            System.arraycopy(child.label, 0, mergedLabel, label.length, child.label.length);
+
+            label = mergedLabel;
+            childFirstChars = child.childFirstChars;
+            children = child.children;
+            employeeIds = child.employeeIds;
+            employeeCount = child.employeeCount;
+        }
+    }
+
+    // Employees with a Key Starting with the Prefix, in Alphabetical Order
+    // of that Key (Exact Keys First)
+    public List<EmployeeView> suggest(String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+
+        lock.readLock().lock();
+
+        try {
+            Node node = root;
+            int position = 0;
+
+            // Down to the Node whose Subtree Holds the Keys Starting with the
+            // Prefix (the Prefix May End inside its Label)
+            while (position < key.length()) {
+                int index = node.childIndex(key.charAt(position));
+
+                if (index < 0) {
+                    return List.of();
+                }
+
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, key, position);
+
+                if (position + common < key.length() && common < child.label.length) {
+                    return List.of();
+                }
+
+                node = child;
+                position += common;
+            }
+
+            // Depth-First, Children in Character Order
+            Set<Long> employeeIds = new LinkedHashSet<>();
+            Deque<Node> nodes = new ArrayDeque<>();
+            nodes.push(node);
+
+            while (!nodes.isEmpty() && employeeIds.size() < limit) {
+                Node current = nodes.pop();
+
+                for (int i = 0; i < current.employeeCount
+                        && employeeIds.size() < limit; i++) {
+                    employeeIds.add(current.employeeIds[i]);
+                }
+
+                for (int i = current.children.length - 1; i >= 0; i--) {
+                    nodes.push(current.children[i]);
+                }
+            }
+
+            return employeeIds.stream()
+                    .map(employees::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+
+        try {
+            return employees.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Estimated Heap Used by the Trie and the Indexed Employees (64-Bit JVM
+    // with Compressed References, Latin-1 Strings)
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    // Same Estimate, Walking the Whole Trie (to Check "getMemoryBytes()")
+    long measureMemoryBytes() {
+        lock.readLock().lock();
+
+        try {
+            long measuredBytes = 0;
+            Deque<Node> nodes = new ArrayDeque<>();
+            nodes.push(root);
+
+            while (!nodes.isEmpty()) {
+                Node node = nodes.pop();
+                measuredBytes += nodeBytes(node);
+
+                for (Node child : node.children) {
+                    nodes.push(child);
+                }
+            }
+
+            for (EmployeeView employee : employees.values()) {
+                measuredBytes += employeeBytes(employee);
+            }
+
+            return measuredBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.suggest.index.employees", this, EmployeeSuggestIndex::getSize)
+                .description("Employees in the suggest index")
+                .register(registry);
+        Gauge.builder("employees.suggest.index.memory", this,
+                        EmployeeSuggestIndex::getMemoryBytes)
+                .description("Estimated memory used by the suggest index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("employees.suggest.index.memory.per.employee", this,
+                        index -> index.getMemoryBytes() / (double) Math.max(1, index.getSize()))
+                .description("Estimated memory used by the suggest index per employee")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @Override
+    protected void addEmployee(EmployeeView employee) {
+        removeEmployee(employee.id());
+
+        employees.put(employee.id(), employee);
+        memoryBytes += employeeBytes(employee);
+        keys(employee).forEach(key -> insert(key, employee.id()));
+    }
+
+    @Override
+    protected void removeEmployee(Long employeeId) {
+        EmployeeView indexedEmployee = employees.remove(employeeId);
+
+        if (indexedEmployee != null) {
+            memoryBytes -= employeeBytes(indexedEmployee);
+            keys(indexedEmployee).forEach(key -> delete(key, employeeId));
+        }
+    }
+
+    private static Stream<String> keys(EmployeeView employee) {
+        return Stream.of(employee.lastName(), employee.firstName(), employee.email())
+                .filter(value -> value != null && !value.isEmpty())
+                .map(TextNormalizer::normalize)
+                .distinct();
+    }
+
+    private void insert(String key, long employeeId) {
+        Node node = root;
+        int position = 0;
+
+        while (position < key.length()) {
+            int index = node.childIndex(key.charAt(position));
+
+            if (index < 0) {
+                Node leaf = new Node(key.substring(position).toCharArray());
+                leaf.addEmployeeId(employeeId);
+                long nodeBytesBefore = nodeBytes(node);
+                node.addChild(leaf);
+                memoryBytes += nodeBytes(node) - nodeBytesBefore + nodeBytes(leaf);
+
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, position);
+
+            if (common < child.label.length) {
+                // Split the Edge: the Common Part Becomes a Node above "child"
+                long childBytesBefore = nodeBytes(child);
+                Node split = new Node(Arrays.copyOf(child.label, common));
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                split.addChild(child);
+                node.children[index] = split;
+                memoryBytes += nodeBytes(child) - childBytesBefore + nodeBytes(split);
+                child = split;
+            }
+
+            node = child;
+            position += common;
+        }
+
+        long nodeBytesBefore = nodeBytes(node);
+        node.addEmployeeId(employeeId);
+        memoryBytes += nodeBytes(node) - nodeBytesBefore;
+    }
+
+    private void delete(String key, long employeeId) {
+        Node parent = null;
+        int indexInParent = -1;
+        Node node = root;
+        int position = 0;
+
+        while (position < key.length()) {
+            int index = node.childIndex(key.charAt(position));
+
+            if (index < 0) {
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, position);
+
+            if (common < child.label.length) {
+                return;
+            }
+
+            parent = node;
+            indexInParent = index;
+            node = child;
+            position += common;
+        }
+
+        long nodeBytesBefore = nodeBytes(node);
+        node.removeEmployeeId(employeeId);
+        memoryBytes += nodeBytes(node) - nodeBytesBefore;
+
+        // Keep the Trie Compressed: No Empty Leaves, and No Key-Less Nodes
+        // with a Single Child (Except the Root)
+        if (parent == null || node.employeeCount > 0) {
+            return;
+        }
+
+        if (node.children.length == 0) {
+            long parentBytesBefore = nodeBytes(parent);
+            parent.removeChild(indexInParent);
+            memoryBytes += nodeBytes(parent) - parentBytesBefore - nodeBytes(node);
+
+            if (parent != root && parent.employeeCount == 0
+                    && parent.children.length == 1) {
+                mergeWithChild(parent);
+            }
+        } else if (node.children.length == 1) {
+            mergeWithChild(node);
+        }
+    }
+
+    private void mergeWithChild(Node node) {
+        long bytesBefore = nodeBytes(node) + nodeBytes(node.children[0]);
+        node.mergeWithChild();
+        memoryBytes += nodeBytes(node) - bytesBefore;
+    }
+
+    private static int commonPrefixLength(char[] label, String key, int position) {
+        int length = Math.min(label.length, key.length() - position);
+        int common = 0;
+
+        while (common < length && label[common] == key.charAt(position + common)) {
+            common++;
+        }
+
+        return common;
+    }
+
+    // Header, 4 References and a Count, and the Arrays
+    private static long nodeBytes(Node node) {
+        return 32
+                + arrayBytes(node.label.length, Character.BYTES)
+                + arrayBytes(node.childFirstChars.length, Character.BYTES)
+                + arrayBytes(node.children.length, Integer.BYTES)
+                + arrayBytes(node.employeeIds.length, Long.BYTES);
+    }
+
+    // Map Entry, Table Slot, "Long" Key and "EmployeeView", and the Strings
+    private static long employeeBytes(EmployeeView employee) {
+        return 32 + 8 + 16 + 32
+                + stringBytes(employee.firstName())
+                + stringBytes(employee.lastName())
+                + stringBytes(employee.email());
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        // Shared Empty Arrays Cost Nothing per Node
+        return length == 0 ? 0 : align(16 + (long) length * elementBytes);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 24 + arrayBytes(value.length(), Byte.BYTES);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
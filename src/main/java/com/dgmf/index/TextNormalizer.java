@@ -0,0 +1,21 @@
+package com.dgmf.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Folds Text the Way MySQL Compares it (Case and Accent Insensitively),
+// so In-Memory Indexes Agree with the DB on which Values are Equal
+final class TextNormalizer {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+
+    private TextNormalizer() {
+    }
+
+    static String normalize(String text) {
+        return COMBINING_MARKS
+                .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
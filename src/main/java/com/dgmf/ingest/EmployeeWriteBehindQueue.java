@@ -0,0 +1,398 @@
+package com.dgmf.ingest;
+
+import com.dgmf.dto.EmployeeCreation;
+import com.dgmf.entity.Employee;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.EmployeeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.persistence.QueryTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.exception.LockAcquisitionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write-Behind Creates ("POST /api/v1/employees?async=true"): the Employee
+// is Checked, Given a Reserved Id and Queued, and the Request Returns at
+// once; a Single Flusher Thread Inserts the Queued Employees in Batches
+// (One Transaction, JDBC Batches), Taking All those Queued Meanwhile
+// A Full Queue Rejects Creates with a 503 (Backpressure)
+// Reserved Ids Come from the "employees_seq" Generator, so they are Never
+// Handed Out Twice, even after a Restart; Queued Employees Live Only in
+// Memory: they are Flushed on Shutdown, but Lost if the Process Crashes
+// (their Status is then Unknown, and the Create Can Be Sent Again)
+// Statuses are Kept by the Instance which Queued the Create; Any Other
+// Instance (or this One, once Expired) Reports it Created if the Row Exists
+// Metrics: /actuator/metrics/employees.write.behind.*
+@Slf4j
+@Component
+@Profile("!reactive")
+public class EmployeeWriteBehindQueue implements MeterBinder {
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private final EmployeeService employeeService;
+    private final EmployeeRepository employeeRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate primaryTransactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Duration retryBackoff;
+    private final BlockingQueue<Employee> queue;
+    // Emails of the Queued Employees, to Reject Duplicates when Queued
+    private final Set<String> queuedEmails = ConcurrentHashMap.newKeySet();
+    // Statuses by Reserved Id, Kept "statusRetention" after the Last Change
+    private final Cache<Long, EmployeeCreation> creations;
+    private final LongAdder createdEmployees = new LongAdder();
+    private final LongAdder failedEmployees = new LongAdder();
+    private final LongAdder rejectedEmployees = new LongAdder();
+    // Held (Shared) by "enqueue()" from the "accepting" Check to the Offer,
+    // and (Exclusive) by "stop()" to Clear it: Once "stop()" Returns from
+    // Clearing it, No Employee Can Be Queued Behind the Flusher's Last Poll
+    private final ReadWriteLock acceptingLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting = true;
+    private Thread flusher;
+
+    public EmployeeWriteBehindQueue(
+            EmployeeService employeeService,
+            EmployeeRepository employeeRepository,
+            EmailBloomFilter emailBloomFilter,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.employees.write-behind.capacity:10000}") int capacity,
+            @Value("${app.employees.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.employees.write-behind.status-retention:10m}") Duration statusRetention,
+            @Value("${app.employees.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${app.employees.write-behind.retry-backoff:100ms}") Duration retryBackoff
+    ) {
+        this.employeeService = employeeService;
+        this.employeeRepository = employeeRepository;
+        this.emailBloomFilter = emailBloomFilter;
+        // Not Read-Only: Routed to the Primary, which Has Every Committed Row
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.retryBackoff = retryBackoff;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.creations = Caffeine.newBuilder()
+                .expireAfterWrite(statusRetention)
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::flushQueuedEmployees, "employee-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Stops Accepting Creates, then Waits for the Queued Ones to Be Flushed
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        acceptingLock.writeLock().lock();
+
+        try {
+            accepting = false;
+        } finally {
+            acceptingLock.writeLock().unlock();
+        }
+
+        if (flusher != null) {
+            flusher.join(shutdownTimeout.toMillis());
+
+            if (flusher.isAlive()) {
+                log.warn("{} queued employee creates were not flushed before shutdown",
+                        queue.size());
+            }
+        }
+    }
+
+    // Id Reserved for the Employee; Throws "IllegalArgumentException" if a
+    // Field is Missing, "ResourceAlreadyExistsException" if the Email is
+    // Taken (or Queued), "ServiceUnavailableException" if the Queue is Full
+    // or Shutting Down
+    // Returns once the Employee is Queued in Memory, Not once it is Stored:
+    // if the Process Crashes before the Flush, the Create is Lost and its
+    // Status Unknown ("404 Not Found"); Callers Needing Durability Use the
+    // Synchronous Create
+    public Long enqueue(Employee employee) {
+        if (isBlank(employee.getFirstName())
+                || isBlank(employee.getLastName())
+                || isBlank(employee.getEmail())) {
+            throw new IllegalArgumentException("firstName, lastName and email are required");
+        }
+
+        acceptingLock.readLock().lock();
+
+        try {
+            return enqueueWhileAccepting(employee);
+        } finally {
+            acceptingLock.readLock().unlock();
+        }
+    }
+
+    private Long enqueueWhileAccepting(Employee employee) {
+        if (!accepting) {
+            throw new ServiceUnavailableException("Employee creates are not accepted "
+                    + "while shutting down, retry later");
+        }
+
+        // Checked before Reserving an Id: a Full Queue Wastes None
+        if (queue.remainingCapacity() == 0) {
+            throw rejected();
+        }
+
+        String email = employee.getEmail();
+
+        if (!queuedEmails.add(email)) {
+            throw new ResourceAlreadyExistsException("Employee already exist " +
+                    "with given email : " + email);
+        }
+
+        try {
+            // Only Emails the Bloom Filter Cannot Rule Out are Checked
+            if (emailBloomFilter.mightContain(email)
+                    && !employeeRepository.findExistingEmails(List.of(email)).isEmpty()) {
+                throw new ResourceAlreadyExistsException("Employee already exist " +
+                        "with given email : " + email);
+            }
+
+            Long employeeId = employeeRepository.reserveEmployeeId();
+            Employee queuedEmployee = Employee.builder()
+                    .reservedId(employeeId)
+                    .firstName(employee.getFirstName())
+                    .lastName(employee.getLastName())
+                    .email(email)
+                    .build();
+            creations.put(employeeId, EmployeeCreation.pending(employeeId));
+
+            if (!queue.offer(queuedEmployee)) {
+                creations.invalidate(employeeId);
+
+                throw rejected();
+            }
+
+            return employeeId;
+        } catch (RuntimeException e) {
+            queuedEmails.remove(email);
+
+            throw e;
+        }
+    }
+
+    // Status Kept Here, else "CREATED" if the Employee Exists (Queued by
+    // Another Instance, or Status Expired); Empty if it does Not Exist
+    public Optional<EmployeeCreation> getCreation(Long employeeId) {
+        EmployeeCreation creation = creations.getIfPresent(employeeId);
+
+        if (creation != null) {
+            return Optional.of(creation);
+        }
+
+        return Boolean.TRUE.equals(primaryTransactionTemplate.execute(status ->
+                employeeRepository.existsById(employeeId)))
+                ? Optional.of(EmployeeCreation.created(employeeId))
+                : Optional.empty();
+    }
+
+    // Group Commit: Blocks until an Employee is Queued, then Flushes it with
+    // All the Others Queued Meanwhile (up to "batchSize")
+    private void flushQueuedEmployees() {
+        List<Employee> batch = new ArrayList<>(batchSize);
+
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Employee employee = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+                if (employee == null) {
+                    continue;
+                }
+
+                batch.add(employee);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unable to flush queued employee creates", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // A Rejected Employee (Constraint Violation) Rolls Back its Whole Batch:
+    // the Batch is Then Split in Halves, Inserted Again, until Only that One
+    // Fails; Any Other Error Fails the Whole Batch
+    private void flush(List<Employee> employees) throws InterruptedException {
+        try {
+            saveWithRetries(employees);
+        } catch (RuntimeException e) {
+            if (employees.size() > 1 && isConstraintViolation(e)) {
+                int half = employees.size() / 2;
+                flush(employees.subList(0, half));
+                flush(employees.subList(half, employees.size()));
+
+                return;
+            }
+
+            log.warn("Unable to create {} queued employees", employees.size(), e);
+            employees.forEach(employee ->
+                    completed(employee, EmployeeCreation.failed(employee.getReservedId(),
+                            e instanceof ResourceAlreadyExistsException
+                                    ? e.getMessage()
+                                    : "Employee could not be created")));
+            failedEmployees.add(employees.size());
+
+            return;
+        }
+
+        employees.forEach(employee ->
+                completed(employee, EmployeeCreation.created(employee.getReservedId())));
+        createdEmployees.add(employees.size());
+    }
+
+    // Transient Errors (Lock Timeout, Deadlock, Lost or Unavailable
+    // Connection) Do Not Depend on the Batch: it is Inserted Again, Waiting
+    // Twice as Long Each Time (up to "MAX_RETRY_BACKOFF"), until it Succeeds;
+    // Meanwhile the Queue Fills Up and Creates are Rejected with a 503
+    private void saveWithRetries(List<Employee> employees) throws InterruptedException {
+        Duration backoff = retryBackoff;
+
+        while (true) {
+            try {
+                employeeService.saveReservedEmployees(employees);
+
+                return;
+            } catch (RuntimeException e) {
+                // Set by the Rolled Back Insert: Persisted Again as New
+                employees.forEach(employee -> {
+                    employee.setId(null);
+                    employee.setVersion(null);
+                });
+
+                if (!isTransient(e)) {
+                    throw e;
+                }
+
+                log.warn("Unable to create {} queued employees, retrying in {}",
+                        employees.size(), backoff, e);
+            }
+
+            Thread.sleep(backoff.toMillis());
+            backoff = backoff.multipliedBy(2).compareTo(MAX_RETRY_BACKOFF) < 0
+                    ? backoff.multipliedBy(2)
+                    : MAX_RETRY_BACKOFF;
+        }
+    }
+
+    private void completed(Employee employee, EmployeeCreation creation) {
+        creations.put(employee.getReservedId(), creation);
+        queuedEmails.remove(employee.getEmail());
+    }
+
+    private ServiceUnavailableException rejected() {
+        rejectedEmployees.increment();
+
+        return new ServiceUnavailableException("Too many queued employee creates "
+                + "(capacity: " + capacity + "), retry later");
+    }
+
+    // Thrown Untranslated by the Flush ("PersistenceException") or Translated
+    // by Spring ("DataAccessException"), Hence the Walk through the Causes
+    private static boolean isConstraintViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ResourceAlreadyExistsException
+                    || cause instanceof DataIntegrityViolationException
+                    || cause instanceof ConstraintViolationException
+                    || cause instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isTransient(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof LockAcquisitionException
+                    || cause instanceof JDBCConnectionException
+                    || cause instanceof PessimisticLockException
+                    || cause instanceof LockTimeoutException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employees.write.behind.queued", queue, BlockingQueue::size)
+                .description("Employee creates queued, not inserted yet")
+                .register(registry);
+        FunctionCounter.builder("employees.write.behind.created", createdEmployees,
+                        LongAdder::doubleValue)
+                .description("Queued employees inserted")
+                .register(registry);
+        FunctionCounter.builder("employees.write.behind.failed", failedEmployees,
+                        LongAdder::doubleValue)
+                .description("Queued employees rejected when inserted")
+                .register(registry);
+        FunctionCounter.builder("employees.write.behind.rejected", rejectedEmployees,
+                        LongAdder::doubleValue)
+                .description("Creates rejected with a 503 because the queue was full")
+                .register(registry);
+    }
+}
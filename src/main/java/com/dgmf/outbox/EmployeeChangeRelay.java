@@ -0,0 +1,108 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Drains the Outbox into the "EmployeeChangeSink" in Batches: Each Batch
+// is Claimed ("FOR UPDATE SKIP LOCKED"), Sent and Deleted in One
+// Transaction, so Relays Running on Several Nodes Share the Work without
+// Sending a Change Twice; a Failed Batch is Rolled Back and Retried
+// The Changes Deleted are Added to the Generation of the Table in the Same
+// Transaction, so the List "ETag" (Relayed plus Pending Changes) Does Not
+// Move while they are Relayed
+// Metrics: /actuator/metrics/employees.outbox.relayed (and
+// "employees.outbox.failures")
+@Slf4j
+public class EmployeeChangeRelay {
+    private final EmployeeChangeEventRepository employeeChangeEventRepository;
+    private final EmployeeGenerationRepository employeeGenerationRepository;
+    private final EmployeeChangeSink employeeChangeSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    // Upper Bound of the Batches Relayed per Run, so a Backlog Does Not
+    // Monopolize the Scheduler Thread
+    private final int maxBatchesPerRun;
+    private final Counter relayedChanges;
+    private final Counter failedBatches;
+
+    public EmployeeChangeRelay(
+            EmployeeChangeEventRepository employeeChangeEventRepository,
+            EmployeeGenerationRepository employeeGenerationRepository,
+            EmployeeChangeSink employeeChangeSink,
+            TransactionTemplate transactionTemplate,
+            int batchSize,
+            int maxBatchesPerRun,
+            MeterRegistry meterRegistry
+    ) {
+        this.employeeChangeEventRepository = employeeChangeEventRepository;
+        this.employeeGenerationRepository = employeeGenerationRepository;
+        this.employeeChangeSink = employeeChangeSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.relayedChanges = Counter.builder("employees.outbox.relayed")
+                .description("Employee changes sent from the outbox")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("employees.outbox.failures")
+                .description("Outbox batches rolled back because sending failed")
+                .register(meterRegistry);
+    }
+
+    // Stops at the First Batch that is Not Full (Outbox Drained) or Fails
+    @Scheduled(
+            initialDelayString = "${app.employees.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${app.employees.outbox.poll-interval:PT1S}"
+    )
+    public void relayChanges() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int relayed;
+
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                failedBatches.increment();
+                log.warn("Unable to relay employee changes, retrying later", e);
+
+                return;
+            }
+
+            if (relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // Number of Changes Relayed (0 if the Outbox is Empty or Entirely
+    // Claimed by Other Relays)
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<EmployeeChangeEvent> changes = employeeChangeEventRepository
+                    .claimChanges(PageRequest.ofSize(batchSize));
+
+            if (changes.isEmpty()) {
+                return 0;
+            }
+
+            employeeChangeSink.send(changes);
+            employeeChangeEventRepository.deleteChanges(changes.stream()
+                    .map(EmployeeChangeEvent::getId)
+                    .toList());
+            employeeGenerationRepository.addRelayedChanges(changes.size());
+
+            return changes.size();
+        });
+
+        relayedChanges.increment(relayed);
+
+        return relayed;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+
+import java.util.List;
+
+// Delivery Target of the Employee Changes Relayed from the Outbox
+// "send()" Must Only Return once the Changes are Delivered: the Relay
+// Deletes them Right After. Changes are Delivered At Least Once (a Batch
+// is Sent Again if the Relay Fails before Deleting it), so Consumers
+// Deduplicate by Change Id or Employee Version
+public interface EmployeeChangeSink {
+    // Changes in Outbox (Id) Order; Throws to Have the Batch Retried
+    void send(List<EmployeeChangeEvent> changes);
+}
@@ -0,0 +1,57 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends the Changes to a Local File, One JSON Object per Line (NDJSON),
+// and Forces them to Disk before Returning
+@RequiredArgsConstructor
+public class FileEmployeeChangeSink implements EmployeeChangeSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void send(List<EmployeeChangeEvent> changes) {
+        StringBuilder lines = new StringBuilder();
+
+        try {
+            for (EmployeeChangeEvent change : changes) {
+                lines.append(objectMapper.writeValueAsString(change)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize employee changes", e);
+        }
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(
+                        lines.toString().getBytes(StandardCharsets.UTF_8));
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append employee changes to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps the Changes in Memory, for Tests (Lost on Restart)
+public class InMemoryEmployeeChangeSink implements EmployeeChangeSink {
+    private final List<EmployeeChangeEvent> changes = new ArrayList<>();
+
+    @Override
+    public synchronized void send(List<EmployeeChangeEvent> changes) {
+        this.changes.addAll(changes);
+    }
+
+    // Copy of the Changes Sent so Far, in Delivery Order
+    public synchronized List<EmployeeChangeEvent> getChanges() {
+        return List.copyOf(changes);
+    }
+
+    public synchronized void clear() {
+        changes.clear();
+    }
+}
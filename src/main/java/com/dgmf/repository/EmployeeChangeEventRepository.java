@@ -0,0 +1,43 @@
+package com.dgmf.repository;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeChangeEventRepository extends JpaRepository<EmployeeChangeEvent, Long> {
+    // Define Set-Based Outbox Insert using HQL "INSERT ... SELECT": One
+    // Statement for Any Number of Employees, Copying the Rows as Currently
+    // Written in the Transaction; Ids that do Not Exist are Skipped
+    @Modifying
+    @Query("INSERT INTO EmployeeChangeEvent " +
+            "(employeeId, type, version, firstName, lastName, email, occurredAt) " +
+            "SELECT e.id, :type, e.version, e.firstName, e.lastName, e.email, instant " +
+            "FROM Employee e WHERE e.id IN :employeeIds")
+    int recordChanges(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("type") EmployeeChangeEvent.ChangeType type
+    );
+
+    // Define Claiming Query: the Oldest Changes, Locked until the End of
+    // the Transaction; Rows Locked by Another Relay are Skipped ("FOR
+    // UPDATE SKIP LOCKED", Lock Timeout -2), so Relays on Several Nodes
+    // Claim Disjoint Batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM EmployeeChangeEvent c ORDER BY c.id")
+    List<EmployeeChangeEvent> claimChanges(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmployeeChangeEvent c WHERE c.id IN :ids")
+    int deleteChanges(@Param("ids") Collection<Long> ids);
+}
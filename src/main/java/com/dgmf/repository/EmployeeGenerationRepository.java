@@ -0,0 +1,27 @@
+package com.dgmf.repository;
+
+import com.dgmf.entity.EmployeeGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface EmployeeGenerationRepository extends JpaRepository<EmployeeGeneration, Long> {
+    // Define Single-Statement Increment using JPQL
+    // Only Run by the Outbox Relay, in the Transaction Deleting the Changes
+    // it Sent: Employee Writes Never Wait for this Row Lock
+    @Modifying
+    @Query("UPDATE EmployeeGeneration g SET g.generation = g.generation + :relayedChanges")
+    int addRelayedChanges(@Param("relayedChanges") long relayedChanges);
+
+    // Changes Relayed plus Changes Still in the Outbox, Read in One
+    // Statement (One Snapshot): Each Committed Write Adds its Changes to the
+    // Outbox, and Relaying them Only Moves them into the Row, so the Sum
+    // Grows with Every Write and Never Changes Otherwise
+    // Empty until the Row is Created ("EmployeeSchemaInitializer")
+    @Query("SELECT g.generation + (SELECT COUNT(c) FROM EmployeeChangeEvent c) " +
+            "FROM EmployeeGeneration g")
+    Optional<Long> findGeneration();
+}
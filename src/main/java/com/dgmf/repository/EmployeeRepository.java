@@ -1,20 +1,48 @@
 package com.dgmf.repository;
 
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+public interface EmployeeRepository extends JpaRepository<Employee, Long>,
+        EmployeeRepositoryCustom {
+    // Only Query Space Declared by the Single-Row Statements Below: it
+    // Matches No Entity Table, so Hibernate Does Not Evict the Whole
+    // "employees" Second-Level Cache Region as for a JPQL or Undeclared
+    // Native Statement; the Caller Evicts the Written Ids once Committed
+    // ("evictEmployees()")
+    String EMPLOYEE_ROW_WRITES = "employee_row_writes";
+
+    // Fixed-Shape Lookups are Served from the Hibernate Query Cache
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Employee> findEmployeeByEmail(String email);
 
+    // Define Custom Query using JPQL to Check Many Emails in One Round Trip
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     // Define Custom Query using JPQL with Index Params
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Employee e WHERE e.firstName = ?1 AND e.lastName = ?2")
     Employee findByJPQL(String firstName, String lastName);
 
     // Define Custom Query using JPQL with Named Params
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Employee e WHERE e.firstName = :firstName AND " +
             "e.lastName = :lastName")
     Employee findByJPQLNamedParams(
@@ -39,4 +67,91 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
             @Param("firstName") String firstName,
             @Param("lastName") String lastName
     );
+
+    // Define Single-Statement Update using Native SQL: No SELECT before the
+    // UPDATE, and 0 Rows Updated if the Employee does Not Exist
+    // The Row Version is Incremented as by a Versioned Entity Update
+    // Pending Changes are Flushed First, as before a JPQL Statement
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = EMPLOYEE_ROW_WRITES))
+    @Query(
+            value = "UPDATE employees SET first_name=:firstName, last_name=:lastName, " +
+            "email=:email, version=version+1 WHERE id=:id",
+            nativeQuery = true
+    )
+    int updateEmployee(
+            @Param("id") Long id,
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("email") String email
+    );
+
+    // Define Conditional Single-Statement Update using Native SQL: Only if
+    // the Row Version is Still the Expected One (Optimistic Concurrency
+    // without Holding a Lock between the Client's Read and its Write)
+    // 0 Rows Updated if the Employee does Not Exist or was Modified
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = EMPLOYEE_ROW_WRITES))
+    @Query(
+            value = "UPDATE employees SET first_name=:firstName, last_name=:lastName, " +
+            "email=:email, version=version+1 WHERE id=:id AND version=:version",
+            nativeQuery = true
+    )
+    int updateEmployeeAtVersion(
+            @Param("id") Long id,
+            @Param("version") long version,
+            @Param("firstName") String firstName,
+            @Param("lastName") String lastName,
+            @Param("email") String email
+    );
+
+    // Define Single-Statement Delete using Native SQL: No SELECT before the
+    // DELETE (Unlike "deleteById()"), and the Number of Rows Deleted Tells
+    // which Employees Existed
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = EMPLOYEE_ROW_WRITES))
+    @Query(value = "DELETE FROM employees WHERE id IN (:ids)", nativeQuery = true)
+    int deleteEmployees(@Param("ids") Collection<Long> ids);
+
+    // 0 Rows Deleted if the Employee does Not Exist or was Modified
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = EMPLOYEE_ROW_WRITES))
+    @Query(
+            value = "DELETE FROM employees WHERE id=:id AND version=:version",
+            nativeQuery = true
+    )
+    int deleteEmployeeAtVersion(@Param("id") Long id, @Param("version") long version);
+
+    // Define DTO Projection Queries using JPQL Constructor Expressions:
+    // Only the Listed Columns are Read, Straight into Immutable
+    // "EmployeeView" Records (No Managed Entities)
+    @Query("SELECT new com.dgmf.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email) " +
+            "FROM Employee e ORDER BY e.id")
+    List<EmployeeView> findAllEmployeeViews();
+
+    // Define Keyset (Seek) Pagination Query using JPQL with Named Params
+    // Seeks on the Primary Key Index, so the Cost of a Page Does Not Depend
+    // on How Deep the Client Pages (Unlike OFFSET)
+    @Query("SELECT new com.dgmf.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email) " +
+            "FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<EmployeeView> findEmployeeViewsAfter(
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // Define Streaming Query over the Whole Table
+    // Rows are Fetched from the JDBC Driver in Chunks of "HINT_FETCH_SIZE"
+    // (Requires "useCursorFetch=true" on the MySQL JDBC Url) and Must Be
+    // Consumed inside a Transaction, then Closed
+    // Projections are Not Managed: Memory Stays Constant without Detaching
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.dgmf.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email) " +
+            "FROM Employee e")
+    Stream<EmployeeView> streamAllEmployeeViews();
+
+    // Define Streaming Query over All Emails (Used to Build the Email
+    // Bloom Filter at Startup)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,38 @@
+package com.dgmf.repository;
+
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeeView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Queries whose Selected Columns are Only Known at Runtime (Sparse
+// Fieldsets), Built with the Criteria API ("EmployeeRepositoryCustomImpl"),
+// Id Reservations and Second-Level Cache Evictions
+public interface EmployeeRepositoryCustom {
+    // Only the Requested Columns are Selected, in "id" Order; the Other
+    // "EmployeeView" Fields are "null"
+    List<EmployeeView> findEmployeeViews(Set<EmployeeField> fields);
+
+    // Same as "findEmployeeViews()", Streamed as "streamAllEmployeeViews()"
+    Stream<EmployeeView> streamEmployeeViews(Set<EmployeeField> fields);
+
+    // Takes the Next Id from the "employees_seq" Generator without Inserting
+    // Anything: the Id is Never Handed Out Again, and is Used when an
+    // Employee Carrying it ("reservedId") is Persisted
+    // Only One Call in 50 Reaches the DB (Pooled Sequence)
+    Long reserveEmployeeId();
+
+    // Moves "employees_seq" Past the Highest Existing Id, if it is Behind
+    // (e.g. Rows Inserted with IDENTITY before the Sequence Existed)
+    // Returns whether it Moved
+    boolean seedEmployeeIds();
+
+    // Evicts these Employees from the Second-Level Cache, with the Cached
+    // Query Results (which May Have Matched their Former Columns, as after
+    // Any Employee Update), after a Statement Declaring Only the
+    // "EMPLOYEE_ROW_WRITES" Query Space; the Other Employees Stay Cached
+    void evictEmployees(Collection<Long> employeeIds);
+}
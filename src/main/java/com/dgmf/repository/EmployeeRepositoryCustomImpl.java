@@ -0,0 +1,129 @@
+package com.dgmf.repository;
+
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeeView;
+import com.dgmf.entity.Employee;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@RequiredArgsConstructor
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+    // Same Block Size as the "employees_seq" Generator of "Employee"
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    // Reading "next_val" = v Hands Out the Ids [v - 49, v], so v Must be at
+    // Least MAX(id) + 50; a Single Statement, Safe when Several Instances
+    // Start at once
+    private static final String SEED_EMPLOYEE_IDS = "UPDATE employees_seq " +
+            "SET next_val = (SELECT COALESCE(MAX(id), 0) + :allocationSize FROM employees) " +
+            "WHERE next_val < (SELECT COALESCE(MAX(id), 0) + :allocationSize FROM employees)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<EmployeeView> findEmployeeViews(Set<EmployeeField> fields) {
+        return createQuery(fields)
+                .getResultStream()
+                .map(tuple -> toEmployeeView(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Stream<EmployeeView> streamEmployeeViews(Set<EmployeeField> fields) {
+        return createQuery(fields)
+                .setHint(HINT_FETCH_SIZE, 1000)
+                .getResultStream()
+                .map(tuple -> toEmployeeView(tuple, fields));
+    }
+
+    // Runs the Generator in a Stateless Session of its Own, which Only
+    // Takes a Connection when the Pooled Block is Exhausted
+    @Override
+    public Long reserveEmployeeId() {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) sessionFactory
+                .getMappingMetamodel()
+                .getEntityDescriptor(Employee.class)
+                .getGenerator();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return (Long) generator.generate(
+                    (SharedSessionContractImplementor) session,
+                    new Employee(),
+                    null,
+                    EventType.INSERT
+            );
+        }
+    }
+
+    // Only "employees_seq" is Declared as Written, so Hibernate Does Not
+    // Evict the Whole Second-Level Cache as it Does for a Native Statement
+    @Override
+    public boolean seedEmployeeIds() {
+        return entityManager.createNativeQuery(SEED_EMPLOYEE_IDS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("employees_seq")
+                .setParameter("allocationSize", ID_ALLOCATION_SIZE)
+                .executeUpdate() > 0;
+    }
+
+    @Override
+    public void evictEmployees(Collection<Long> employeeIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+
+        employeeIds.forEach(employeeId -> cache.evict(Employee.class, employeeId));
+        cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+    }
+
+    // SELECT of the Requested Columns Only, Each Aliased by its Field Name
+    private TypedQuery<Tuple> createQuery(Set<EmployeeField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> employee
+                        .get(field.getAttributeName())
+                        .alias(field.name()))
+                .toList();
+
+        query.multiselect(selections)
+                .orderBy(criteriaBuilder.asc(employee.get("id")));
+
+        return entityManager.createQuery(query);
+    }
+
+    private static EmployeeView toEmployeeView(Tuple tuple, Set<EmployeeField> fields) {
+        return new EmployeeView(
+                fields.contains(EmployeeField.ID)
+                        ? tuple.get(EmployeeField.ID.name(), Long.class) : null,
+                fields.contains(EmployeeField.FIRST_NAME)
+                        ? tuple.get(EmployeeField.FIRST_NAME.name(), String.class) : null,
+                fields.contains(EmployeeField.LAST_NAME)
+                        ? tuple.get(EmployeeField.LAST_NAME.name(), String.class) : null,
+                fields.contains(EmployeeField.EMAIL)
+                        ? tuple.get(EmployeeField.EMAIL.name(), String.class) : null
+        );
+    }
+}
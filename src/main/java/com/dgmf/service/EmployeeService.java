@@ -1,14 +1,51 @@
 package com.dgmf.service;
 
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     Employee saveEmployee(Employee employee);
-    List<Employee> getAllEmployees();
+    List<Employee> saveEmployees(List<Employee> employees);
+    // Same as "saveEmployees()", but the Ids were Reserved with
+    // "EmployeeRepository.reserveEmployeeId()" ("Employee.reservedId") and
+    // are Used
+    List<Employee> saveReservedEmployees(List<Employee> employees);
+    // Changes whenever an Employee is Written; Empty while it May Not Reflect
+    // what the Lists Read (Replica Lag)
+    Optional<String> getEmployeesGeneration();
+    List<EmployeeView> getAllEmployees();
+    List<EmployeeView> getAllEmployees(Set<EmployeeField> fields);
+    EmployeePage getEmployeesAfter(Long afterEmployeeId, int limit);
+    void exportEmployees(Consumer<EmployeeView> employeeConsumer);
+    void exportEmployees(Set<EmployeeField> fields, Consumer<EmployeeView> employeeConsumer);
     Optional<Employee> getEmployeeById(Long employeeId);
-    Employee updateEmployee(Employee updateEmployee);
-    void deleteEmployee(Long employeeId);
+    EmployeePage searchEmployees(String query, int offset, int limit);
+    List<EmployeeView> suggestEmployees(String prefix, int limit);
+    // Empty if the Employee does Not Exist
+    Optional<Employee> updateEmployee(Employee updateEmployee);
+    // Conditional Writes ("If-Match"): Only if the Row Version is Still One
+    // of "expectedVersions" (None if Empty), "PreconditionFailedException"
+    // Otherwise
+    Optional<Employee> updateEmployee(Employee updateEmployee, Set<Long> expectedVersions);
+    // Empty if the Employee does Not Exist
+    Optional<Employee> patchEmployee(Long employeeId, Map<EmployeeField, String> changes);
+    Optional<Employee> patchEmployee(
+            Long employeeId,
+            Set<Long> expectedVersions,
+            Map<EmployeeField, String> changes
+    );
+    // False if the Employee does Not Exist
+    boolean deleteEmployee(Long employeeId);
+    boolean deleteEmployee(Long employeeId, Set<Long> expectedVersions);
+    // Number of Employees Deleted, Ids that do Not Exist are Ignored
+    int deleteEmployees(Collection<Long> employeeIds);
 }
@@ -0,0 +1,21 @@
+package com.dgmf.service;
+
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.entity.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Non-Blocking Counterpart of "EmployeeService" ("reactive" Profile)
+// Empty Monos Stand for Missing Employees; a Delete Emits Whether the
+// Employee Existed, as "EmployeeService.deleteEmployee()"
+public interface ReactiveEmployeeService {
+    Mono<Employee> saveEmployee(Employee employee);
+    Flux<Employee> saveEmployees(List<Employee> employees);
+    Flux<Employee> getAllEmployees();
+    Mono<EmployeePage> getEmployeesAfter(Long afterEmployeeId, int limit);
+    Mono<Employee> getEmployeeById(Long employeeId);
+    Mono<Employee> updateEmployee(Employee updateEmployee);
+    Mono<Boolean> deleteEmployee(Long employeeId);
+}
@@ -1,57 +1,307 @@
 package com.dgmf.service.impl;
 
+import com.dgmf.config.CacheConfig;
+import com.dgmf.config.EmployeeProperties;
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
-import com.dgmf.exception.ResourceNotFoundException;
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.exception.ConcurrentUpdateException;
+import com.dgmf.exception.PreconditionFailedException;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.index.EmployeeIndex;
+import com.dgmf.index.EmployeeSearchIndex;
+import com.dgmf.index.EmployeeSuggestIndex;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
 import com.dgmf.repository.EmployeeRepository;
 import com.dgmf.service.EmployeeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Every Method is Timed ("employees.service", Tagged by Method and
+// Exception), with a Percentile Histogram
 @Service
+@Profile("!reactive")
+// A Non-Positive "app.employees.batch-size" Fails the Startup
+@EnableConfigurationProperties(EmployeeProperties.class)
+@Timed(value = "employees.service", histogram = true)
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
     // @Autowired
     private final EmployeeRepository employeeRepository;
+    // Each Write Records its Change in the Outbox, in the Same Transaction
+    private final EmployeeChangeEventRepository employeeChangeEventRepository;
+    // Generation of the Table: Changes Relayed from the Outbox plus Changes
+    // Still in it, so Writes Only Insert Outbox Rows and Lock No Shared Row
+    private final EmployeeGenerationRepository employeeGenerationRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    // Writes of Many Employees Evict their Ids from the Cache One by One
+    private final CacheManager cacheManager;
+    private final EmailBloomFilter emailBloomFilter;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final EmployeeProperties employeeProperties;
+    // With Replica Routing, Lists Read just after a Write May Not Include it
+    // Yet: No Generation is Reported until the Replicas have Caught Up
+    @Value("${app.datasource.routing.enabled:false}")
+    private boolean replicaRouting;
+    @Value("${app.datasource.routing.max-replica-lag:5s}")
+    private Duration maxReplicaLag;
+    // Last Generation Read by this Instance, and when it was First Read
+    // (Whichever Instance Wrote it)
+    private volatile SeenGeneration seenGeneration;
+    // Employees Written by this Instance Less than "maxReplicaLag" ago (Only
+    // with Replica Routing): the Replicas May Not Have the Write Yet
+    // Each Write Restarts the Lag Window ("maxReplicaLag" is Only Injected
+    // after Construction, so it is Read per Entry)
+    private final Cache<Long, Boolean> recentlyWrittenEmployeeIds = Caffeine.newBuilder()
+            .expireAfter(new Expiry<Long, Boolean>() {
+                @Override
+                public long expireAfterCreate(Long employeeId, Boolean written, long currentTime) {
+                    return maxReplicaLag.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long employeeId, Boolean written,
+                                              long currentTime, long currentDuration) {
+                    return maxReplicaLag.toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(Long employeeId, Boolean written,
+                                            long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#result.id")
     public Employee saveEmployee(Employee employee) {
-        // Find Requested Employee By Email
-        Optional<Employee> existingEmployee = employeeRepository
-                .findEmployeeByEmail(employee.getEmail());
+        // Save Requested Employee First and Let the Unique Index on "email"
+        // Reject Duplicates: No Pre-Check SELECT, and No Race Between
+        // Concurrent Creates
+        // Ids are Always Generated: an Id Sent in the Request Would Make
+        // "saveAndFlush()" Merge into an Existing (or Missing) Row
+        employee.setId(null);
+        try {
+            Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+            employeeChangeEventRepository.recordChanges(
+                    List.of(savedEmployee.getId()),
+                    EmployeeChangeEvent.ChangeType.CREATED
+            );
+            employeesWritten(List.of(savedEmployee.getId()));
+            emailBloomFilter.put(savedEmployee.getEmail());
+            indexEmployees(List.of(EmployeeView.of(savedEmployee)));
 
-        // Check if the Requested Employee already exist
-        if(existingEmployee.isPresent()) {
-            throw new
-                    ResourceNotFoundException("Employee already exist " +
-                    "with given email : " + employee.getEmail());
+            return savedEmployee;
+        } catch (DataIntegrityViolationException e) {
+            // Check if the Requested Employee already exist
+            if (isEmailUniqueViolation(e)) {
+                throw new
+                        ResourceAlreadyExistsException("Employee already exist " +
+                        "with given email : " + employee.getEmail(), e);
+            }
+
+            throw e;
         }
+    }
 
-        // Save Requested Employee
-        Employee savedEmployee = employeeRepository.save(employee);
+    // New Ids May Have Been Cached as Missing, so they are Evicted once
+    // Inserted
+    @Override
+    @Transactional
+    public List<Employee> saveEmployees(List<Employee> employees) {
+        return insertEmployees(employees);
+    }
 
-        return savedEmployee;
+    // Same as "saveEmployees()", Keeping the Reserved Ids
+    // Reserved Ids May Have Been Cached as Missing (e.g. Looked Up before
+    // the Write-Behind Flush), so they are Evicted too
+    @Override
+    @Transactional
+    public List<Employee> saveReservedEmployees(List<Employee> employees) {
+        return insertEmployees(employees);
     }
 
+    // Read on the Primary (Not a Read-Only Transaction): a Single Row by Key,
+    // Shared by All Instances, so a Write on Any of them Changes the Tag
     @Override
-    public List<Employee> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
+    @Transactional
+    public Optional<String> getEmployeesGeneration() {
+        Optional<Long> currentGeneration = employeeGenerationRepository.findGeneration();
+
+        if (currentGeneration.isEmpty()
+                || (replicaRouting && !isReplicated(currentGeneration.get()))) {
+            return Optional.empty();
+        }
+
+        return currentGeneration.map(String::valueOf);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployees() {
+        // Read Straight into "EmployeeView" Records: No Entity Hydration,
+        // Dirty-Checking Snapshot or Second-Level Cache Put per Row
+        List<EmployeeView> employees = employeeRepository.findAllEmployeeViews();
 
         return employees;
     }
 
+    // Sparse Fieldset: Only the Requested Columns are Read
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployees(Set<EmployeeField> fields) {
+        if (fields.size() == EmployeeField.values().length) {
+            return getAllEmployees();
+        }
+
+        return employeeRepository.findEmployeeViews(fields);
+    }
+
     @Override
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesAfter(Long afterEmployeeId, int limit) {
+        // Fetch One Extra Row to Know if a Next Page Exists Without
+        // Issuing a Count Query
+        List<EmployeeView> employees = employeeRepository.findEmployeeViewsAfter(
+                afterEmployeeId == null ? 0L : afterEmployeeId,
+                PageRequest.ofSize(limit + 1)
+        );
+
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+
+        List<EmployeeView> content = employees.subList(0, limit);
+
+        return new EmployeePage(
+                content,
+                EmployeePage.encodeCursor(content.get(limit - 1).id())
+        );
+    }
+
+    // The Stream is Backed by an Open JDBC Cursor, so it Must Be Consumed
+    // inside this (Read-Only) Transaction
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<EmployeeView> employeeConsumer) {
+        try (Stream<EmployeeView> employees = employeeRepository.streamAllEmployeeViews()) {
+            employees.forEach(employeeConsumer);
+        }
+    }
+
+    // Sparse Fieldset: Only the Requested Columns are Read
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(
+            Set<EmployeeField> fields,
+            Consumer<EmployeeView> employeeConsumer
+    ) {
+        if (fields.size() == EmployeeField.values().length) {
+            exportEmployees(employeeConsumer);
+
+            return;
+        }
+
+        try (Stream<EmployeeView> employees = employeeRepository.streamEmployeeViews(fields)) {
+            employees.forEach(employeeConsumer);
+        }
+    }
+
+    // Read-Only Transaction (on a Replica), except for an Employee Written
+    // by this Instance within the Replica Lag: a Lagging Replica Would Return
+    // the Old Row (or None), which this Cache and the Second-Level Cache
+    // Would then Keep; the Primary is Read instead
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId")
     public Optional<Employee> getEmployeeById(Long employeeId) {
-        Optional<Employee> optionalEmployee = employeeRepository
-                .findById(employeeId);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(
+                recentlyWrittenEmployeeIds.getIfPresent(employeeId) == null);
 
-        return optionalEmployee;
+        return transactionTemplate.execute(status -> employeeRepository
+                .findById(employeeId));
     }
 
+    // Served from the In-Memory Trigram Index, without Any Query
     @Override
-    public Employee updateEmployee(Employee updateEmployee) {
+    public EmployeePage searchEmployees(String query, int offset, int limit) {
+        if (!employeeSearchIndex.isLoaded()) {
+            throw new ServiceUnavailableException("Employee search index is loading");
+        }
+
+        EmployeeSearchIndex.SearchResult searchResult =
+                employeeSearchIndex.search(query, offset, limit);
+
+        return new EmployeePage(
+                searchResult.employees(),
+                searchResult.hasMore()
+                        ? EmployeePage.encodeCursor((long) offset + limit)
+                        : null
+        );
+    }
+
+    // Served from the In-Memory Trie, without Any Query
+    @Override
+    public List<EmployeeView> suggestEmployees(String prefix, int limit) {
+        if (!employeeSuggestIndex.isLoaded()) {
+            throw new ServiceUnavailableException("Employee suggest index is loading");
+        }
+
+        return employeeSuggestIndex.suggest(prefix, limit);
+    }
+
+    // Single "UPDATE ... WHERE id = ?" Statement: No SELECT of the Employee
+    // The New Row Version is Unknown, so the Cached Employee is Evicted
+    // (Not Replaced) and Read Again by the Next Lookup
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#updateEmployee.id")
+    public Optional<Employee> updateEmployee(Employee updateEmployee) {
         /*// Retrieve Employee from The DB
         Employee foundEmployee =
                 employeeRepository.findById(employeeId)
@@ -65,13 +315,472 @@ public class EmployeeServiceImpl implements EmployeeService {
         foundEmployee.setLastName(employee.getLastName());
         foundEmployee.setEmail(employee.getEmail());*/
 
-        Employee updatedEmployee = employeeRepository.save(updateEmployee);
+        return update(updateEmployee, null);
+    }
+
+    // Single "UPDATE ... WHERE id = ? AND version = ?" Statement per Expected
+    // Version, until One Matches; the New Row Version is the Matched One
+    // Plus 1
+    // Also Evicted before the Update: a Lookup Racing an Earlier Update May
+    // Have Cached a Stale Version, on which Every Retry Would Fail with 412
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE,
+                    key = "#updateEmployee.id", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE,
+                    key = "#updateEmployee.id")
+    })
+    public Optional<Employee> updateEmployee(
+            Employee updateEmployee,
+            Set<Long> expectedVersions
+    ) {
+        return update(updateEmployee, expectedVersions);
+    }
+
+    // JSON Merge Patch: the Patched Fields are Set on the Managed Employee
+    // and "@DynamicUpdate" Limits the UPDATE to the Changed Columns; a
+    // Patch Changing Nothing Leaves the Employee Clean, and Nothing is
+    // Written
+    // The UPDATE is Guarded by the Row Version Read with the Employee
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId")
+    public Optional<Employee> patchEmployee(
+            Long employeeId,
+            Map<EmployeeField, String> changes
+    ) {
+        return patch(employeeId, null, changes);
+    }
+
+    // The Row Version Read with the Employee Must Also Be One of the
+    // Expected Ones
+    @Override
+    @Transactional
+    @Caching(
+            evict = @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE,
+                    key = "#employeeId", beforeInvocation = true),
+            put = @CachePut(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId")
+    )
+    public Optional<Employee> patchEmployee(
+            Long employeeId,
+            Set<Long> expectedVersions,
+            Map<EmployeeField, String> changes
+    ) {
+        return patch(employeeId, expectedVersions, changes);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId")
+    public boolean deleteEmployee(Long employeeId) {
+        return deleteEmployees(List.of(employeeId)) > 0;
+    }
+
+    // Single "DELETE ... WHERE id = ? AND version = ?" Statement per
+    // Expected Version, until One Matches
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE,
+                    key = "#employeeId", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId")
+    })
+    public boolean deleteEmployee(Long employeeId, Set<Long> expectedVersions) {
+        // Recorded before the Delete, while the Employee can still be Read;
+        // Rolled Back with the Transaction if the Version Changed
+        employeeChangeEventRepository.recordChanges(
+                List.of(employeeId),
+                EmployeeChangeEvent.ChangeType.DELETED
+        );
+
+        // The Row has a Single Version: at Most One Statement Deletes it
+        for (Long expectedVersion : expectedVersions) {
+            if (employeeRepository.deleteEmployeeAtVersion(employeeId, expectedVersion) > 0) {
+                employeesDeleted(List.of(employeeId));
+
+                return true;
+            }
+        }
+
+        checkNotModified(employeeId);
 
-        return updatedEmployee;
+        return false;
     }
 
+    // One DELETE for All the Ids; Only these Ids are Evicted from the Cache,
+    // like after "saveEmployees()"
     @Override
-    public void deleteEmployee(Long employeeId) {
-        employeeRepository.deleteById(employeeId);
+    @Transactional
+    public int deleteEmployees(Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+
+        // Recorded before the Delete, while the Employees can still be Read
+        employeeChangeEventRepository.recordChanges(
+                employeeIds,
+                EmployeeChangeEvent.ChangeType.DELETED
+        );
+        int deletedEmployees = employeeRepository.deleteEmployees(employeeIds);
+        // Also when Some were Not Deleted here: they May Still be Cached
+        afterCommit(() -> evictCachedEmployees(employeeIds));
+
+        if (deletedEmployees > 0) {
+            employeesDeleted(employeeIds);
+        }
+
+        return deletedEmployees;
+    }
+
+    // Employees are Checked and Inserted in JDBC Batches, and their
+    // Creations Recorded in the Outbox
+    private List<Employee> insertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return employees;
+        }
+
+        // Check if the Requested Employees Share an Email
+        Set<String> emails = new HashSet<>();
+        List<String> duplicateEmails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(email -> !emails.add(email))
+                .toList();
+
+        if (!duplicateEmails.isEmpty()) {
+            throw new
+                    ResourceAlreadyExistsException("Employee already exist " +
+                    "with given emails : " + duplicateEmails);
+        }
+
+        // Check if Some Requested Employees already exist
+        // Only Emails the Bloom Filter Cannot Rule Out are Checked, in One
+        // Round Trip for the Whole Batch (None if All Emails are New)
+        List<String> candidateEmails = emails.stream()
+                .filter(emailBloomFilter::mightContain)
+                .toList();
+        List<String> existingEmails = candidateEmails.isEmpty()
+                ? List.of()
+                : employeeRepository.findExistingEmails(candidateEmails);
+
+        if (!existingEmails.isEmpty()) {
+            throw new
+                    ResourceAlreadyExistsException("Employee already exist " +
+                    "with given emails : " + existingEmails);
+        }
+
+        // Bulk-Created Employees are Not Put into the Second-Level Cache
+        entityManager.setProperty(
+                SpecHints.HINT_SPEC_CACHE_STORE_MODE,
+                CacheStoreMode.BYPASS
+        );
+
+        // Save Requested Employees, Flushing One JDBC Batch at a Time and
+        // Clearing the Persistence Context to Keep Memory Bounded
+        try {
+            for (int i = 0; i < employees.size(); i++) {
+                Employee employee = employees.get(i);
+
+                // Ids are Always Generated (the Reserved One, if Any)
+                employee.setId(null);
+                entityManager.persist(employee);
+
+                if ((i + 1) % employeeProperties.getBatchSize() == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+
+            entityManager.flush();
+            List<Long> employeeIds = employees.stream().map(Employee::getId).toList();
+            recordCreations(employeeIds);
+            employeesWritten(employeeIds);
+            afterCommit(() -> evictCachedEmployees(employeeIds));
+            emails.forEach(emailBloomFilter::put);
+            indexEmployees(employees.stream().map(EmployeeView::of).toList());
+        } catch (PersistenceException e) {
+            // An Email Inserted Concurrently since the Check Above
+            if (isEmailUniqueViolation(e)) {
+                throw new
+                        ResourceAlreadyExistsException("Employee already exist " +
+                        "with one of the given emails", e);
+            }
+
+            throw e;
+        }
+
+        return employees;
+    }
+
+    // Unconditional if "expectedVersions" is "null"
+    private Optional<Employee> update(Employee updateEmployee, Set<Long> expectedVersions) {
+        int updatedRows = 0;
+        Long matchedVersion = null;
+
+        try {
+            if (expectedVersions == null) {
+                updatedRows = employeeRepository.updateEmployee(
+                        updateEmployee.getId(),
+                        updateEmployee.getFirstName(),
+                        updateEmployee.getLastName(),
+                        updateEmployee.getEmail());
+            } else {
+                // The Row has a Single Version: at Most One Statement
+                // Updates it
+                for (Long expectedVersion : expectedVersions) {
+                    updatedRows = employeeRepository.updateEmployeeAtVersion(
+                            updateEmployee.getId(),
+                            expectedVersion,
+                            updateEmployee.getFirstName(),
+                            updateEmployee.getLastName(),
+                            updateEmployee.getEmail());
+
+                    if (updatedRows > 0) {
+                        matchedVersion = expectedVersion;
+                        break;
+                    }
+                }
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Check if Another Employee already has the Requested Email
+            if (isEmailUniqueViolation(e)) {
+                throw new
+                        ResourceAlreadyExistsException("Employee already exist " +
+                        "with given email : " + updateEmployee.getEmail(), e);
+            }
+
+            throw e;
+        }
+
+        if (updatedRows == 0) {
+            if (expectedVersions != null) {
+                checkNotModified(updateEmployee.getId());
+            }
+
+            return Optional.empty();
+        }
+
+        employeeChangeEventRepository.recordChanges(
+                List.of(updateEmployee.getId()),
+                EmployeeChangeEvent.ChangeType.UPDATED
+        );
+        employeesWritten(List.of(updateEmployee.getId()));
+        afterCommit(() -> employeeRepository.evictEmployees(List.of(updateEmployee.getId())));
+        Employee updatedEmployee = Employee.builder()
+                .id(updateEmployee.getId())
+                .firstName(updateEmployee.getFirstName())
+                .lastName(updateEmployee.getLastName())
+                .email(updateEmployee.getEmail())
+                .version(matchedVersion == null ? null : matchedVersion + 1)
+                .build();
+        emailBloomFilter.put(updatedEmployee.getEmail());
+        indexEmployees(List.of(EmployeeView.of(updatedEmployee)));
+
+        return Optional.of(updatedEmployee);
+    }
+
+    // Unconditional if "expectedVersions" is "null"
+    private Optional<Employee> patch(
+            Long employeeId,
+            Set<Long> expectedVersions,
+            Map<EmployeeField, String> changes
+    ) {
+        Optional<Employee> optionalEmployee = employeeRepository.findById(employeeId);
+
+        if (optionalEmployee.isEmpty()) {
+            return optionalEmployee;
+        }
+
+        Employee employee = optionalEmployee.get();
+
+        if (expectedVersions != null && !expectedVersions.contains(employee.getVersion())) {
+            throw new PreconditionFailedException("Employee with Id " + employeeId +
+                    " is not at any of the versions " + expectedVersions);
+        }
+
+        boolean changed = false;
+
+        for (Map.Entry<EmployeeField, String> change : changes.entrySet()) {
+            changed |= setField(employee, change.getKey(), change.getValue());
+        }
+
+        if (!changed) {
+            return optionalEmployee;
+        }
+
+        // Flushed Now to Report a Duplicate Email or a Concurrent Update, and
+        // to Return the New Row Version
+        try {
+            entityManager.flush();
+        } catch (OptimisticLockException e) {
+            if (expectedVersions != null) {
+                throw new PreconditionFailedException("Employee with Id " + employeeId +
+                        " is not at version " + employee.getVersion(), e);
+            }
+
+            throw new ConcurrentUpdateException("Employee with Id " + employeeId +
+                    " was updated concurrently", e);
+        } catch (PersistenceException e) {
+            // Check if Another Employee already has the Requested Email
+            if (isEmailUniqueViolation(e)) {
+                throw new
+                        ResourceAlreadyExistsException("Employee already exist " +
+                        "with given email : " + employee.getEmail(), e);
+            }
+
+            throw e;
+        }
+
+        employeeChangeEventRepository.recordChanges(
+                List.of(employeeId),
+                EmployeeChangeEvent.ChangeType.UPDATED
+        );
+        employeesWritten(List.of(employeeId));
+        emailBloomFilter.put(employee.getEmail());
+        indexEmployees(List.of(EmployeeView.of(employee)));
+
+        return optionalEmployee;
+    }
+
+    // After a Conditional Write Matched No Row: "404" if the Employee does
+    // Not Exist (Nothing Thrown), "412" if its Version Changed
+    private void checkNotModified(Long employeeId) {
+        if (employeeRepository.existsById(employeeId)) {
+            throw new PreconditionFailedException("Employee with Id " + employeeId +
+                    " was modified");
+        }
+    }
+
+    // Records the Creations in the Outbox with One "INSERT ... SELECT" per
+    // Batch of Ids, Copying the Inserted Rows of the Employees
+    private void recordCreations(List<Long> employeeIds) {
+        int batchSize = employeeProperties.getBatchSize();
+
+        for (int from = 0; from < employeeIds.size(); from += batchSize) {
+            employeeChangeEventRepository.recordChanges(
+                    employeeIds.subList(from, Math.min(employeeIds.size(), from + batchSize)),
+                    EmployeeChangeEvent.ChangeType.CREATED
+            );
+        }
+    }
+
+    private void employeesDeleted(Collection<Long> employeeIds) {
+        employeesWritten(employeeIds);
+        afterCommit(() -> employeeRepository.evictEmployees(employeeIds));
+        long writeSequence = EmployeeIndex.nextWriteSequence();
+        afterCommit(() -> {
+            employeeIds.forEach(employeeId -> {
+                employeeSearchIndex.remove(employeeId, writeSequence);
+                employeeSuggestIndex.remove(employeeId, writeSequence);
+            });
+        });
+    }
+
+    // Put into the In-Memory Indexes once Committed, with a Write Sequence
+    // Taken while the Written Rows are Still Locked
+    private void indexEmployees(List<EmployeeView> employees) {
+        long writeSequence = EmployeeIndex.nextWriteSequence();
+        afterCommit(() -> {
+            employees.forEach(employee -> {
+                employeeSearchIndex.put(employee, writeSequence);
+                employeeSuggestIndex.put(employee, writeSequence);
+            });
+        });
+    }
+
+    // Lookups of these Employees Read the Primary for "maxReplicaLag" after
+    // the Commit
+    private void employeesWritten(Collection<Long> employeeIds) {
+        if (replicaRouting) {
+            afterCommit(() -> employeeIds.forEach(employeeId ->
+                    recentlyWrittenEmployeeIds.put(employeeId, Boolean.TRUE)));
+        }
+    }
+
+    // Only these Ids are Evicted: Every Other Cached Employee Stays Cached
+    private void evictCachedEmployees(Collection<Long> employeeIds) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE))
+                .ifPresent(cache -> employeeIds.forEach(cache::evict));
+    }
+
+    // Sets a Patched Field, Telling whether its Value Changed
+    private static boolean setField(Employee employee, EmployeeField field, String value) {
+        switch (field) {
+            case FIRST_NAME -> {
+                if (value.equals(employee.getFirstName())) {
+                    return false;
+                }
+
+                employee.setFirstName(value);
+            }
+            case LAST_NAME -> {
+                if (value.equals(employee.getLastName())) {
+                    return false;
+                }
+
+                employee.setLastName(value);
+            }
+            case EMAIL -> {
+                if (value.equals(employee.getEmail())) {
+                    return false;
+                }
+
+                employee.setEmail(value);
+            }
+            default -> throw new IllegalArgumentException("Field cannot be patched : " + field);
+        }
+
+        return true;
+    }
+
+    // Replicas Lagging More than "maxReplicaLag" Receive No Reads: once a
+    // Generation was Read that Long ago (on the Primary), Every Replica
+    // Serving Lists has it
+    private boolean isReplicated(long currentGeneration) {
+        SeenGeneration seen = seenGeneration;
+
+        if (seen == null || seen.generation() != currentGeneration) {
+            seen = new SeenGeneration(currentGeneration, System.nanoTime());
+            seenGeneration = seen;
+        }
+
+        return System.nanoTime() - seen.firstSeenNanos() >= maxReplicaLag.toNanos();
+    }
+
+    // In-Memory Indexes Must Not See Writes that May Still Roll Back: Runs
+    // the Action once the Current Transaction (if Any) Commits
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+
+    // Check if an Exception was Caused by the Unique Index on "email"
+    private static boolean isEmailUniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName()
+                    .toLowerCase(Locale.ROOT)
+                    .contains(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private record SeenGeneration(long generation, long firstSeenNanos) {
     }
 }
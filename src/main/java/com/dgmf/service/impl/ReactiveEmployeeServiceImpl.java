@@ -0,0 +1,326 @@
+package com.dgmf.service.impl;
+
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
+import com.dgmf.entity.Employee;
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.service.ReactiveEmployeeService;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// R2DBC Implementation over the Same "employees" Schema as the JPA One
+// Queries Never Block a Thread: Rows are Emitted as the Subscriber
+// Requests them, so a Slow Client Slows the Query Down instead of Making
+// the Server Buffer the Whole Result
+// Each Write Records its Change in the "employee_outbox" Table, in its Own
+// Transaction, as the JPA Implementation Does (Changes are Relayed by the
+// Instances Running the Default Profile, which also Count them in the
+// Generation of the Table)
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+    // Same Block Size as the "employees_seq" Generator of "Employee", so
+    // Ids Allocated here and by Hibernate Never Overlap
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String SELECT_EMPLOYEES =
+            "SELECT id, first_name, last_name, email, version FROM employees";
+    // Set-Based Outbox Insert, as "EmployeeChangeEventRepository.recordChanges()":
+    // Copies the Rows as Currently Written in the Transaction; Ids that do
+    // Not Exist are Skipped
+    private static final String RECORD_CHANGES = "INSERT INTO employee_outbox "
+            + "(employee_id, type, version, first_name, last_name, email, occurred_at) "
+            + "SELECT id, :type, version, first_name, last_name, email, CURRENT_TIMESTAMP "
+            + "FROM employees WHERE id IN (:employeeIds)";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    // Ranges of Ids Allocated but Not Used Yet
+    private final Deque<long[]> idBlocks = new ArrayDeque<>();
+
+    public ReactiveEmployeeServiceImpl(
+            DatabaseClient databaseClient,
+            TransactionalOperator transactionalOperator
+    ) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        // The Unique Index on "email" Rejects Duplicates (No Pre-Check)
+        return allocateIds(1)
+                .flatMap(ids -> insertEmployee(employee, ids.get(0))
+                        .flatMap(savedEmployee -> recordChanges(
+                                List.of(savedEmployee.getId()),
+                                EmployeeChangeEvent.ChangeType.CREATED
+                        ).thenReturn(savedEmployee))
+                        .as(transactionalOperator::transactional))
+                .onErrorMap(ReactiveEmployeeServiceImpl::isEmailUniqueViolation, e ->
+                        new ResourceAlreadyExistsException("Employee already exist " +
+                                "with given email : " + employee.getEmail(), e));
+    }
+
+    @Override
+    public Flux<Employee> saveEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return Flux.empty();
+        }
+
+        // Check if the Requested Employees Share an Email
+        Set<String> emails = new HashSet<>();
+        List<String> duplicateEmails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(email -> !emails.add(email))
+                .toList();
+
+        if (!duplicateEmails.isEmpty()) {
+            return Flux.error(new
+                    ResourceAlreadyExistsException("Employee already exist " +
+                    "with given emails : " + duplicateEmails));
+        }
+
+        // All or Nothing: One Transaction for the Whole Batch (Ids are
+        // Reserved Before, in their Own Transaction)
+        return allocateIds(employees.size())
+                .flatMapMany(ids -> Flux.range(0, employees.size())
+                        .concatMap(i -> insertEmployee(employees.get(i), ids.get(i)))
+                        .collectList()
+                        .flatMap(savedEmployees -> recordChanges(
+                                ids,
+                                EmployeeChangeEvent.ChangeType.CREATED
+                        ).thenReturn(savedEmployees))
+                        .flatMapIterable(savedEmployees -> savedEmployees)
+                        .as(transactionalOperator::transactional))
+                .onErrorMap(ReactiveEmployeeServiceImpl::isEmailUniqueViolation, e ->
+                        new ResourceAlreadyExistsException("Employee already exist " +
+                                "with one of the given emails", e));
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return databaseClient.sql(SELECT_EMPLOYEES + " ORDER BY id")
+                .map(ReactiveEmployeeServiceImpl::toEmployee)
+                .all();
+    }
+
+    @Override
+    public Mono<EmployeePage> getEmployeesAfter(Long afterEmployeeId, int limit) {
+        // Fetch One Extra Row to Know if a Next Page Exists Without
+        // Issuing a Count Query
+        return databaseClient.sql(SELECT_EMPLOYEES
+                        + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterEmployeeId == null ? 0L : afterEmployeeId)
+                .bind("limit", limit + 1)
+                .map(ReactiveEmployeeServiceImpl::toEmployeeView)
+                .all()
+                .collectList()
+                .map(employees -> {
+                    if (employees.size() <= limit) {
+                        return new EmployeePage(employees, null);
+                    }
+
+                    List<EmployeeView> content = employees.subList(0, limit);
+
+                    return new EmployeePage(
+                            content,
+                            EmployeePage.encodeCursor(content.get(limit - 1).id())
+                    );
+                });
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(Long employeeId) {
+        return databaseClient.sql(SELECT_EMPLOYEES + " WHERE id = :id")
+                .bind("id", employeeId)
+                .map(ReactiveEmployeeServiceImpl::toEmployee)
+                .one();
+    }
+
+    // Single Statement: Empty if the Employee does Not Exist
+    @Override
+    public Mono<Employee> updateEmployee(Employee updateEmployee) {
+        return databaseClient.sql("UPDATE employees SET first_name = :firstName, "
+                        + "last_name = :lastName, email = :email, version = version + 1 "
+                        + "WHERE id = :id")
+                .bind("firstName", updateEmployee.getFirstName())
+                .bind("lastName", updateEmployee.getLastName())
+                .bind("email", updateEmployee.getEmail())
+                .bind("id", updateEmployee.getId())
+                .fetch()
+                .rowsUpdated()
+                .filter(rowsUpdated -> rowsUpdated > 0)
+                .flatMap(rowsUpdated -> recordChanges(
+                        List.of(updateEmployee.getId()),
+                        EmployeeChangeEvent.ChangeType.UPDATED
+                ).thenReturn(updateEmployee))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(ReactiveEmployeeServiceImpl::isEmailUniqueViolation, e ->
+                        new ResourceAlreadyExistsException("Employee already exist " +
+                                "with given email : " + updateEmployee.getEmail(), e));
+    }
+
+    // Recorded before the Delete, while the Employee can still be Read
+    @Override
+    public Mono<Boolean> deleteEmployee(Long employeeId) {
+        return recordChanges(List.of(employeeId), EmployeeChangeEvent.ChangeType.DELETED)
+                .then(databaseClient.sql("DELETE FROM employees WHERE id = :id")
+                        .bind("id", employeeId)
+                        .fetch()
+                        .rowsUpdated())
+                .map(rowsDeleted -> rowsDeleted > 0)
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Employee> insertEmployee(Employee employee, long employeeId) {
+        Employee savedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .version(0L)
+                .build();
+
+        return databaseClient.sql("INSERT INTO employees "
+                        + "(id, first_name, last_name, email, version) "
+                        + "VALUES (:id, :firstName, :lastName, :email, 0)")
+                .bind("id", savedEmployee.getId())
+                .bind("firstName", savedEmployee.getFirstName())
+                .bind("lastName", savedEmployee.getLastName())
+                .bind("email", savedEmployee.getEmail())
+                .then()
+                .thenReturn(savedEmployee);
+    }
+
+    // One Statement for Any Number of Employees; the Number of Changes
+    // Recorded
+    private Mono<Long> recordChanges(
+            List<Long> employeeIds,
+            EmployeeChangeEvent.ChangeType type
+    ) {
+        return databaseClient.sql(RECORD_CHANGES)
+                .bind("type", type.name())
+                .bind("employeeIds", employeeIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Takes "count" Ids from the Allocated Blocks, Reserving New Blocks in
+    // "employees_seq" (One Round Trip for Any Number of Blocks) if Needed
+    Mono<List<Long>> allocateIds(int count) {
+        return Mono.defer(() -> {
+            List<Long> ids = takeIds(count);
+
+            if (ids.size() == count) {
+                return Mono.just(ids);
+            }
+
+            int missingIds = count - ids.size();
+            int blocks = (missingIds + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+
+            // Blocks Reserved Concurrently May Be Taken by Other Callers
+            // in the Meantime, Hence the Retry through "allocateIds"
+            return reserveIdBlocks(blocks)
+                    .then(allocateIds(missingIds))
+                    .map(moreIds -> {
+                        ids.addAll(moreIds);
+
+                        return ids;
+                    });
+        });
+    }
+
+    private synchronized List<Long> takeIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+
+        while (ids.size() < count && !idBlocks.isEmpty()) {
+            long[] block = idBlocks.peekFirst();
+            ids.add(block[0]++);
+
+            if (block[0] > block[1]) {
+                idBlocks.removeFirst();
+            }
+        }
+
+        return ids;
+    }
+
+    private synchronized void addIdBlock(long firstId, long lastId) {
+        if (firstId <= lastId) {
+            idBlocks.addLast(new long[]{firstId, lastId});
+        }
+    }
+
+    // Same Semantics as Hibernate's Pooled Optimizer on a Table-Backed
+    // Sequence: Reading "next_val" = v and Adding the Block Size Reserves
+    // the Ids [v - 49, v]
+    private Mono<Void> reserveIdBlocks(int blocks) {
+        long increment = (long) blocks * ID_ALLOCATION_SIZE;
+
+        return databaseClient.sql("SELECT next_val FROM employees_seq FOR UPDATE")
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .flatMap(nextValue -> databaseClient
+                        .sql("UPDATE employees_seq SET next_val = next_val + :increment")
+                        .bind("increment", increment)
+                        .then()
+                        .thenReturn(nextValue))
+                .as(transactionalOperator::transactional)
+                // Ids are Only Handed Out Once the Reservation is Committed
+                .doOnNext(nextValue -> addIdBlock(
+                        Math.max(1, nextValue - ID_ALLOCATION_SIZE + 1),
+                        nextValue + increment - ID_ALLOCATION_SIZE
+                ))
+                .then();
+    }
+
+    private static Employee toEmployee(Readable row) {
+        return Employee.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static EmployeeView toEmployeeView(Readable row) {
+        return new EmployeeView(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class)
+        );
+    }
+
+    // Check if an Exception was Caused by the Unique Index on "email" (Other
+    // Integrity Violations are Not Conflicts with an Existing Employee)
+    // R2DBC Drivers Only Report the Constraint in the Message, e.g. MySQL's
+    // "Duplicate entry '...' for key 'employees.uk_employees_email'"
+    private static boolean isEmailUniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null
+                    && cause.getMessage()
+                    .toLowerCase(Locale.ROOT)
+                    .contains(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
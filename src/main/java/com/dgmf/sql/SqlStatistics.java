@@ -0,0 +1,148 @@
+package com.dgmf.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Aggregates Executed SQL Statements per Normalized Shape (Literals
+// Replaced by "?", IN Lists Collapsed): Count, Total and Max Execution
+// Time, Rows and Errors, with Lock-Free Counters
+// Only Slow Statements are Logged, and Only a Sample of them
+@Slf4j
+public class SqlStatistics {
+    // Statements Beyond this Number of Distinct Shapes are Counted Together
+    static final String OTHER_SHAPES = "<other>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile(
+            "(?i)\\b(in)\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxShapes;
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    // Raw SQL to Shape: ORM Statements Repeat the Same Strings, so Each One
+    // is Only Normalized Once
+    private final Map<String, String> normalizedSql = new ConcurrentHashMap<>();
+
+    public SqlStatistics(int maxShapes, Duration slowThreshold, double slowLogSampleRate) {
+        this.maxShapes = maxShapes;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    public record SqlShape(
+            String sql,
+            long count,
+            long errors,
+            long rows,
+            double totalMillis,
+            double meanMillis,
+            double maxMillis
+    ) {
+    }
+
+    static final class ShapeStatistics {
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void addRows(long rowCount) {
+            rows.add(rowCount);
+        }
+    }
+
+    // Records One Execution; the Returned Statistics Take the Rows Read
+    // Later from the Result Set
+    ShapeStatistics record(String sql, long elapsedNanos, long rowCount, boolean failed) {
+        ShapeStatistics statistics = statisticsOf(sql);
+        statistics.count.increment();
+        statistics.totalNanos.add(elapsedNanos);
+        statistics.maxNanos.accumulate(elapsedNanos);
+
+        if (rowCount > 0) {
+            statistics.rows.add(rowCount);
+        }
+
+        if (failed) {
+            statistics.errors.increment();
+        }
+
+        if (elapsedNanos >= slowThresholdNanos
+                && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+            log.warn("Slow SQL statement ({} ms): {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        }
+
+        return statistics;
+    }
+
+    // Most Time-Consuming Shapes First
+    public List<SqlShape> getShapes() {
+        return shapes.entrySet().stream()
+                .map(entry -> {
+                    ShapeStatistics statistics = entry.getValue();
+                    long count = statistics.count.sum();
+                    double totalMillis = statistics.totalNanos.sum() / 1_000_000.0;
+
+                    return new SqlShape(
+                            entry.getKey(),
+                            count,
+                            statistics.errors.sum(),
+                            statistics.rows.sum(),
+                            totalMillis,
+                            count == 0 ? 0 : totalMillis / count,
+                            statistics.maxNanos.get() / 1_000_000.0
+                    );
+                })
+                .sorted(Comparator.comparingDouble(SqlShape::totalMillis).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+
+        return IN_LIST.matcher(shape).replaceAll("$1 (?, ...)");
+    }
+
+    private ShapeStatistics statisticsOf(String sql) {
+        String shape = normalizedSql.get(sql);
+
+        if (shape == null) {
+            shape = normalize(sql);
+
+            if (normalizedSql.size() < maxShapes * 10) {
+                normalizedSql.put(sql, shape);
+            }
+        }
+
+        ShapeStatistics statistics = shapes.get(shape);
+
+        if (statistics != null) {
+            return statistics;
+        }
+
+        return shapes.size() < maxShapes
+                ? shapes.computeIfAbsent(shape, key -> new ShapeStatistics())
+                : shapes.computeIfAbsent(OTHER_SHAPES, key -> new ShapeStatistics());
+    }
+}
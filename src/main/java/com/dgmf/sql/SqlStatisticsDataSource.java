@@ -0,0 +1,162 @@
+package com.dgmf.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+// Times Every Statement Executed through the Connections of the Target
+// DataSource and Records it in "SqlStatistics" (JDK Proxies around the
+// Connection, its Statements and their Result Sets, which Count the Rows)
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch"
+    );
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlStatisticsDataSource(DataSource targetDataSource, SqlStatistics sqlStatistics) {
+        super(targetDataSource);
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connectionProxy(super.getConnection(username, password));
+    }
+
+    private Connection connectionProxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+
+                    return switch (method.getName()) {
+                        case "createStatement" -> statementProxy(
+                                (Statement) result, Statement.class, null);
+                        case "prepareStatement" -> statementProxy(
+                                (Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> statementProxy(
+                                (Statement) result, CallableStatement.class, (String) args[0]);
+                        default -> result;
+                    };
+                }
+        );
+    }
+
+    // "preparedSql" is Null for Plain Statements, whose SQL is Passed to
+    // the Execute Method
+    private Object statementProxy(Statement statement, Class<?> statementType, String preparedSql) {
+        // Shape of the Last Execution, for the Rows of "getResultSet()"
+        SqlStatistics.ShapeStatistics[] lastExecuted = new SqlStatistics.ShapeStatistics[1];
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            String methodName = method.getName();
+
+            if (!EXECUTE_METHODS.contains(methodName)) {
+                Object result = invoke(statement, method, args);
+
+                return methodName.equals("getResultSet")
+                        && result != null && lastExecuted[0] != null
+                        ? countingResultSet((ResultSet) result, lastExecuted[0])
+                        : result;
+            }
+
+            String sql = preparedSql != null
+                    ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String statementSql
+                    ? statementSql
+                    : "<batch>";
+            long start = System.nanoTime();
+            Object result;
+
+            try {
+                result = invoke(statement, method, args);
+            } catch (Throwable e) {
+                sqlStatistics.record(sql, System.nanoTime() - start, 0, true);
+                throw e;
+            }
+
+            lastExecuted[0] = sqlStatistics.record(
+                    sql, System.nanoTime() - start, updatedRows(result), false);
+
+            return result instanceof ResultSet resultSet
+                    ? countingResultSet(resultSet, lastExecuted[0])
+                    : result;
+        };
+
+        return Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{statementType},
+                handler
+        );
+    }
+
+    private static ResultSet countingResultSet(
+            ResultSet resultSet,
+            SqlStatistics.ShapeStatistics statistics
+    ) {
+        return (ResultSet) Proxy.newProxyInstance(
+                SqlStatisticsDataSource.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(resultSet, method, args);
+
+                    if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                        statistics.addRows(1);
+                    }
+
+                    return result;
+                }
+        );
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer rows) {
+            return rows;
+        }
+
+        if (result instanceof Long rows) {
+            return rows;
+        }
+
+        long total = 0;
+
+        if (result instanceof int[] batchRows) {
+            for (int rows : batchRows) {
+                total += Math.max(rows, 0);
+            }
+        } else if (result instanceof long[] batchRows) {
+            for (long rows : batchRows) {
+                total += Math.max(rows, 0);
+            }
+        }
+
+        return total;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
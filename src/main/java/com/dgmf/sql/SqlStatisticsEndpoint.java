@@ -0,0 +1,26 @@
+package com.dgmf.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+// GET /actuator/sqlstats: Statement Shapes, Most Time-Consuming First
+// DELETE /actuator/sqlstats: Starts Over (e.g. before a Load Test)
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+    private final SqlStatistics sqlStatistics;
+
+    @ReadOperation
+    public List<SqlStatistics.SqlShape> shapes() {
+        return sqlStatistics.getShapes();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+}
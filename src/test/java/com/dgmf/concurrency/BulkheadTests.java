@@ -0,0 +1,92 @@
+package com.dgmf.concurrency;
+
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+public class BulkheadTests {
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    public void setup() {
+        bulkhead = new Bulkhead("employees.bulkhead", 2, Duration.ofMillis(50));
+    }
+
+    // JUnit Test for Acquire Method when All Permits are Taken
+    @Test
+    @DisplayName("JUnit Test for Acquire Method when All Permits are Taken")
+    void givenAllPermitsTaken_whenAcquire_thenThrowsServiceUnavailableException() {
+        // Given - Precondition or Setup
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        // When / Then - Action or the Behavior that we are going to test
+        assertThatThrownBy(() -> bulkhead.acquire())
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    // JUnit Test for Acquire Method after a Release
+    @Test
+    @DisplayName("JUnit Test for Acquire Method after a Release")
+    void givenReleasedPermit_whenAcquire_thenSucceeds() {
+        // Given - Precondition or Setup
+        bulkhead.acquire();
+        bulkhead.acquire();
+        bulkhead.release();
+
+        // When / Then - Action or the Behavior that we are going to test
+        assertThatNoException().isThrownBy(() -> bulkhead.acquire());
+    }
+
+    // JUnit Test for the Bulkhead Aspect while an Export Runs
+    @Test
+    @DisplayName("JUnit Test for the Bulkhead Aspect while an Export Runs")
+    void givenRunningExport_whenCallEmployeeService_thenOnlyExportsAreRejected()
+            throws Exception {
+        // Given - Precondition or Setup
+        // One Permit Each: the Running Export Holds the Only Export Permit
+        EmployeeService employeeService = mock(EmployeeService.class);
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        CountDownLatch exportFinished = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            exportStarted.countDown();
+            exportFinished.await();
+            return null;
+        }).given(employeeService).exportEmployees(any());
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(employeeService);
+        proxyFactory.addAspect(new BulkheadAspect(
+                new Bulkhead("employees.bulkhead", 1, Duration.ofMillis(50)),
+                new Bulkhead("employees.export.bulkhead", 1, Duration.ZERO)
+        ));
+        EmployeeService limitedEmployeeService = proxyFactory.getProxy();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            executorService.submit(() -> limitedEmployeeService.exportEmployees(employee -> {
+            }));
+            exportStarted.await();
+
+            // When / Then - Action or the Behavior that we are going to test
+            assertThatNoException().isThrownBy(limitedEmployeeService::getAllEmployees);
+            assertThatThrownBy(() -> limitedEmployeeService.exportEmployees(employee -> {
+            })).isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            exportFinished.countDown();
+            executorService.shutdown();
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package com.dgmf.controller;
 
+import com.dgmf.dto.EmployeeCreation;
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
+import com.dgmf.exception.PreconditionFailedException;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.ingest.EmployeeWriteBehindQueue;
 import com.dgmf.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.hamcrest.CoreMatchers;
 import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +44,9 @@ public class EmployeeControllerTests {
     // To mock Employee Service
     @MockBean
     private EmployeeService employeeService;
+    // To mock the Write-Behind Queue of Asynchronous Creates
+    @MockBean
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
     // To call REST APIs
     @Autowired
     private MockMvc mockMvc;
@@ -93,14 +111,168 @@ public class EmployeeControllerTests {
                 );
     }
 
-    // JUnit Test for Get All Employees REST API
+    // JUnit Test for Create Employee REST API - Negative Scenario
     @Test
-    @DisplayName("JUnit Test for Get All Employees REST API")
-    void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeesList()
+    @DisplayName("JUnit Test for Create Employee REST API - Negative Scenario")
+    void givenExistingEmail_whenCreateEmployee_thenReturn409()
             throws Exception {
         // Given - Precondition or Setup
-        List<Employee> employees = new ArrayList<>();
-        employees.add(
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        // To Mock "employeeService.saveEmployee(employee)" Method
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willThrow(new ResourceAlreadyExistsException(
+                        "Employee already exist with given email : " +
+                        employee.getEmail()
+                ));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee))
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "409 CONFLICT" in the Response
+                .andExpect(status().isConflict());
+    }
+
+    // JUnit Test for Create Employee REST API in Write-Behind Mode
+    @Test
+    @DisplayName("JUnit Test for Create Employee REST API in Write-Behind Mode")
+    void givenEmployeeObject_whenCreateEmployeeAsync_thenReturn202WithStatusUrl()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        // To Mock "employeeWriteBehindQueue.enqueue(employee)" Method
+        given(employeeWriteBehindQueue.enqueue(ArgumentMatchers.any(Employee.class)))
+                .willReturn(101L);
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/employees")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee))
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "202 ACCEPTED" in the Response
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        CoreMatchers.endsWith("/api/v1/employees/creations/101")))
+                .andExpect(jsonPath("$.id", is(101)))
+                .andExpect(jsonPath("$.status", is("PENDING")))
+                .andExpect(jsonPath("$.reason").doesNotExist());
+        verify(employeeService, never()).saveEmployee(any());
+    }
+
+    // JUnit Test for Create Employee REST API in Write-Behind Mode - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Create Employee REST API in Write-Behind Mode - Negative Scenario")
+    void givenFullQueueOrInvalidEmployee_whenCreateEmployeeAsync_thenReturn503Or400()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+        Employee invalidEmployee = Employee.builder()
+                .firstName("Xavi")
+                .build();
+
+        // To Mock "employeeWriteBehindQueue.enqueue()" Method: the Queue is
+        // Full, or the Employee has No Email
+        given(employeeWriteBehindQueue.enqueue(ArgumentMatchers.any(Employee.class)))
+                .willAnswer(invocation -> {
+                    Employee queuedEmployee = invocation.getArgument(0);
+
+                    if (queuedEmployee.getEmail() == null) {
+                        throw new IllegalArgumentException("Email is required");
+                    }
+
+                    throw new ServiceUnavailableException("Write-behind queue is full");
+                });
+
+        // When / Then - Action or the Behavior that we are going to test
+        mockMvc.perform(post("/api/v1/employees")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee)))
+                // Verify HTTP Status "503 SERVICE UNAVAILABLE" in the Response
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post("/api/v1/employees")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidEmployee)))
+                // Verify HTTP Status "400 BAD REQUEST" in the Response
+                .andExpect(status().isBadRequest());
+    }
+
+    // JUnit Test for Get Employee Creation REST API
+    @Test
+    @DisplayName("JUnit Test for Get Employee Creation REST API")
+    void givenCreations_whenGetEmployeeCreation_thenReturn303Or200Or404()
+            throws Exception {
+        // Given - Precondition or Setup
+        // To Mock "employeeWriteBehindQueue.getCreation()" Method
+        given(employeeWriteBehindQueue.getCreation(101L))
+                .willReturn(Optional.of(EmployeeCreation.created(101L)));
+        given(employeeWriteBehindQueue.getCreation(102L))
+                .willReturn(Optional.of(EmployeeCreation.pending(102L)));
+        given(employeeWriteBehindQueue.getCreation(103L))
+                .willReturn(Optional.of(EmployeeCreation.failed(103L, "Employee could not be created")));
+        given(employeeWriteBehindQueue.getCreation(104L)).willReturn(Optional.empty());
+
+        // When / Then - Action or the Behavior that we are going to test
+        mockMvc.perform(get("/api/v1/employees/creations/{id}", 101L))
+                // Verify HTTP Status "303 SEE OTHER" to the Created Employee
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location",
+                        CoreMatchers.endsWith("/api/v1/employees/101")))
+                .andExpect(jsonPath("$.status", is("CREATED")));
+        mockMvc.perform(get("/api/v1/employees/creations/{id}", 102L))
+                // Verify HTTP Status "200 OK" while Pending
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("PENDING")));
+        mockMvc.perform(get("/api/v1/employees/creations/{id}", 103L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("FAILED")))
+                .andExpect(jsonPath("$.reason", is("Employee could not be created")));
+        mockMvc.perform(get("/api/v1/employees/creations/{id}", 104L))
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .andExpect(status().isNotFound());
+    }
+
+    // JUnit Test for Create Employees REST API (Batch)
+    @Test
+    @DisplayName("JUnit Test for Create Employees REST API")
+    void givenEmployeesList_whenCreateEmployees_thenReturnSavedEmployees()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<Employee> employees = List.of(
+                Employee.builder()
+                        .firstName("Xavi")
+                        .lastName("Disturb")
+                        .email("xavidisturb@gmail.com")
+                        .build(),
                 Employee.builder()
                         .firstName("Milhan")
                         .lastName("Norton")
@@ -108,12 +280,53 @@ public class EmployeeControllerTests {
                         .build()
         );
 
+        // To Mock "employeeService.saveEmployees()" Method
+        given(employeeService.saveEmployees(ArgumentMatchers.anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                post("/api/v1/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employees))
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "201 CREATED" in the Response
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()", is(employees.size())))
+                .andExpect(jsonPath(
+                        "$[1].email",
+                        is(employees.get(1).getEmail())
+                ));
+    }
+
+    // JUnit Test for Get All Employees REST API
+    @Test
+    @DisplayName("JUnit Test for Get All Employees REST API")
+    void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeesList()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = new ArrayList<>();
+        employees.add(
+                new EmployeeView(
+                        null,
+                        "Milhan",
+                        "Norton",
+                        "milhannorton@gmail.com"
+                )
+        );
+
         employees.add(
-                Employee.builder()
-                        .firstName("Jeremy")
-                        .lastName("O'hara")
-                        .email("jeremyohara@gmail.com")
-                        .build()
+                new EmployeeView(
+                        null,
+                        "Jeremy",
+                        "O'hara",
+                        "jeremyohara@gmail.com"
+                )
         );
 
         // To Mock "employeeService.getAllEmployees()" Method and Prepare
@@ -139,6 +352,318 @@ public class EmployeeControllerTests {
                 );
     }
 
+    // JUnit Test for Get All Employees REST API with a Sparse Fieldset
+    @Test
+    @DisplayName("JUnit Test for Get All Employees REST API with a Sparse Fieldset")
+    void givenFields_whenGetAllEmployees_thenReturnOnlyRequestedFields()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(1L, null, null, "milhannorton@gmail.com")
+        );
+
+        // To Mock "employeeService.getAllEmployees()" Method with the
+        // Parsed Fields
+        given(employeeService.getAllEmployees(
+                EnumSet.of(EmployeeField.ID, EmployeeField.EMAIL)))
+                .willReturn(employees);
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("fields", "id,email"));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].email", is("milhannorton@gmail.com")))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$[0].lastName").doesNotExist());
+    }
+
+    // JUnit Test for Get All Employees REST API with a Sparse Fieldset -
+    // Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Get All Employees REST API with a Sparse Fieldset - Negative Scenario")
+    void givenUnknownField_whenGetAllEmployees_thenReturn400()
+            throws Exception {
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("fields", "id,salary"));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "400 BAD REQUEST" in the Response
+                .andExpect(status().isBadRequest());
+        verify(employeeService, never()).getAllEmployees(ArgumentMatchers.any());
+    }
+
+    // JUnit Test for Get All Employees REST API with an Unchanged ETag
+    @Test
+    @DisplayName("JUnit Test for Get All Employees REST API with an Unchanged ETag")
+    void givenCurrentGeneration_whenGetAllEmployeesIfNoneMatch_thenReturn304()
+            throws Exception {
+        // Given - Precondition or Setup
+        given(employeeService.getEmployeesGeneration())
+                .willReturn(Optional.of("epoch-7"));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .header("If-None-Match", "\"epoch-7\""));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "304 NOT MODIFIED" in the Response
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"epoch-7\""))
+                .andExpect(content().string(""));
+        // The Employees were Not Read
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    // JUnit Test for Get All Employees REST API with a Changed ETag
+    @Test
+    @DisplayName("JUnit Test for Get All Employees REST API with a Changed ETag")
+    void givenNewGeneration_whenGetAllEmployeesIfNoneMatch_thenReturnEmployeesAndETag()
+            throws Exception {
+        // Given - Precondition or Setup
+        given(employeeService.getEmployeesGeneration())
+                .willReturn(Optional.of("epoch-8"));
+        given(employeeService.getAllEmployees()).willReturn(List.of(
+                new EmployeeView(1L, "Milhan", "Norton", "milhannorton@gmail.com")));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .header("If-None-Match", "\"epoch-7\""));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"epoch-8\""))
+                .andExpect(jsonPath("$.size()", is(1)));
+    }
+
+    // JUnit Test for Get Employees Page REST API (Keyset Pagination)
+    @Test
+    @DisplayName("JUnit Test for Get Employees Page REST API")
+    void givenCursorAndLimit_whenGetEmployeesPage_thenReturnEmployeesPage()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(
+                        11L,
+                        "Milhan",
+                        "Norton",
+                        "milhannorton@gmail.com"
+                ),
+                new EmployeeView(
+                        12L,
+                        "Jeremy",
+                        "O'hara",
+                        "jeremyohara@gmail.com"
+                )
+        );
+        String nextCursor = EmployeePage.encodeCursor(12L);
+
+        // To Mock "employeeService.getEmployeesAfter()" Method
+        given(employeeService.getEmployeesAfter(10L, 2))
+                .willReturn(new EmployeePage(employees, nextCursor));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("after", EmployeePage.encodeCursor(10L))
+                .param("limit", "2"));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(employees.size())))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)));
+    }
+
+    // JUnit Test for Get Employees Page REST API without a Limit
+    @Test
+    @DisplayName("JUnit Test for Get Employees Page REST API without a Limit")
+    void givenCursorWithoutLimit_whenGetEmployees_thenReturnPageOfDefaultLimit()
+            throws Exception {
+        // Given - Precondition or Setup
+        // To Mock "employeeService.getEmployeesAfter()" Method
+        given(employeeService.getEmployeesAfter(10L, 20))
+                .willReturn(new EmployeePage(List.of(), null));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("after", EmployeePage.encodeCursor(10L)));
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                // A Page, Not the Whole Unpaged List
+                .andExpect(jsonPath("$.content.size()", is(0)));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    // JUnit Test for Get Employees Page REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Get Employees Page REST API - Negative Scenario")
+    void givenMalformedCursor_whenGetEmployeesPage_thenReturn400()
+            throws Exception {
+        // Given - Precondition or Setup
+        String malformedCursor = "not-a-cursor";
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("after", malformedCursor)
+                .param("limit", "2"));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "400 BAD REQUEST" in the Response
+                .andExpect(status().isBadRequest());
+        verify(employeeService, never())
+                .getEmployeesAfter(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    }
+
+    // JUnit Test for Search Employees REST API
+    @Test
+    @DisplayName("JUnit Test for Search Employees REST API")
+    void givenQueryAndCursor_whenSearchEmployees_thenReturnEmployeesPage()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(
+                        3L,
+                        "Jeremy",
+                        "O'hara",
+                        "jeremyohara@gmail.com"
+                )
+        );
+        String nextCursor = EmployeePage.encodeCursor(40L);
+
+        // To Mock "employeeService.searchEmployees()" Method: the Cursor
+        // Holds the Offset of the First Result
+        given(employeeService.searchEmployees("jerem", 20, 20))
+                .willReturn(new EmployeePage(employees, nextCursor));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/search")
+                .param("q", "jerem")
+                .param("after", EmployeePage.encodeCursor(20L)));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(employees.size())))
+                .andExpect(jsonPath("$.content[0].firstName", is("Jeremy")))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)));
+    }
+
+    // JUnit Test for Suggest Employees REST API
+    @Test
+    @DisplayName("JUnit Test for Suggest Employees REST API")
+    void givenPrefix_whenSuggestEmployees_thenReturnEmployeesList()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(
+                        4L,
+                        "Milhan",
+                        "Norton",
+                        "milhannorton@gmail.com"
+                )
+        );
+
+        // To Mock "employeeService.suggestEmployees()" Method: the Limit is
+        // Capped
+        given(employeeService.suggestEmployees("nor", 100))
+                .willReturn(employees);
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "nor")
+                .param("limit", "5000"));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(employees.size())))
+                .andExpect(jsonPath("$[0].lastName", is("Norton")));
+    }
+
+    // JUnit Test for Export Employees REST API (NDJSON Streaming)
+    @Test
+    @DisplayName("JUnit Test for Export Employees REST API")
+    void givenListOfEmployees_whenExportEmployees_thenStreamOneJsonLinePerEmployee()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(
+                        1L,
+                        "Milhan",
+                        "Norton",
+                        "milhannorton@gmail.com"
+                ),
+                new EmployeeView(
+                        2L,
+                        "Jeremy",
+                        "O'hara",
+                        "jeremyohara@gmail.com"
+                )
+        );
+
+        // To Mock "employeeService.exportEmployees()" Method by Feeding
+        // Each Employee to the Given Consumer
+        willAnswer(invocation -> {
+            Consumer<EmployeeView> employeeConsumer = invocation.getArgument(1);
+            employees.forEach(employeeConsumer);
+            return null;
+        }).given(employeeService).exportEmployees(
+                ArgumentMatchers.eq(EnumSet.allOf(EmployeeField.class)),
+                ArgumentMatchers.any()
+        );
+
+        // When - Action or the Behavior that we are going to test
+        // The Response Body is Written Asynchronously
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(employees.get(0)) + "\n" +
+                        objectMapper.writeValueAsString(employees.get(1)) + "\n"
+                ));
+    }
+
     // JUnit Test for Get Employee By Id REST API
     //  Positive Scenario with Valid Employee Id
     @Test
@@ -190,6 +715,39 @@ public class EmployeeControllerTests {
                 );
     }
 
+    // JUnit Test for Get Employee By Id REST API with an Unchanged ETag
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id REST API with an Unchanged ETag")
+    void givenCurrentVersion_whenGetEmployeeByIdIfNoneMatch_thenReturn304()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 1L;
+        Employee employee = Employee.builder()
+                .id(employeeId)
+                .firstName("Manuel")
+                .lastName("Ortega")
+                .email("manuelortega@gmail.com")
+                .version(3L)
+                .build();
+
+        // To Mock "employeeService.getEmployeeById()" Method
+        given(employeeService.getEmployeeById(employeeId))
+                .willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/{id}", employeeId)
+                .header("If-None-Match", "\"3\""));
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "304 NOT MODIFIED" in the Response
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+    }
+
     // JUnit Test for Get Employee By Id REST API
     //  Negative Scenario with No Valid Employee Id
     @Test
@@ -230,13 +788,6 @@ public class EmployeeControllerTests {
             throws Exception {
         // Given - Precondition or Setup
         Long employeeId = 3L;
-        // Employee From DB
-        Employee employeeFromDb = Employee.builder()
-                .firstName("Ivan")
-                .lastName("Attal")
-                .email("ivanattal@gmail.com")
-                .build();
-
         // Employee From Request
         Employee employeeFromRequest = Employee.builder()
                 .firstName("Ivan - UPDATED")
@@ -244,10 +795,6 @@ public class EmployeeControllerTests {
                 .email("ivanattal.updated@gmail.com")
                 .build();
 
-        // To Mock "employeeService.getEmployeeById()" Method (Stub Method Call)
-        given(employeeService.getEmployeeById(employeeId))
-                .willReturn(Optional.of(employeeFromDb));
-
         // To Mock "employeeService.updateEmployee()" Method
         given(employeeService.updateEmployee(
                 // Whatever Argument We Pass to Update Employee
@@ -255,7 +802,7 @@ public class EmployeeControllerTests {
                     )
                 )
                 // This Argument Should Be Simply Return
-                .willAnswer(invocation -> invocation.getArgument(0));
+                .willAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         // When - Action or the Behavior that we are going to test
         ResultActions response = mockMvc.perform(
@@ -288,6 +835,8 @@ public class EmployeeControllerTests {
                                 is(employeeFromRequest.getEmail())
                         )
                 );
+        // The Employee is Not Read before Being Updated
+        verify(employeeService, never()).getEmployeeById(employeeId);
     }
 
     // JUnit Test for Update Employee REST API - Negative Scenario
@@ -297,13 +846,6 @@ public class EmployeeControllerTests {
             throws Exception {
         // Given - Precondition or Setup
         Long employeeId = 3L;
-        // Employee From DB
-        Employee employeeFromDb = Employee.builder()
-                .firstName("Ivan")
-                .lastName("Attal")
-                .email("ivanattal@gmail.com")
-                .build();
-
         // Employee From Request
         Employee employeeFromRequest = Employee.builder()
                 .firstName("Ivan - UPDATED")
@@ -311,18 +853,13 @@ public class EmployeeControllerTests {
                 .email("ivanattal.updated@gmail.com")
                 .build();
 
-        // To Mock "employeeService.getEmployeeById()" Method (Stub Method Call)
-        given(employeeService.getEmployeeById(employeeId))
-                .willReturn(Optional.empty());
-
-        // To Mock "employeeService.updateEmployee()" Method
+        // To Mock "employeeService.updateEmployee()" Method: No Row Updated
         given(employeeService.updateEmployee(
                 // Whatever Argument We Pass to Update Employee
                     ArgumentMatchers.any(Employee.class)
                     )
                 )
-                // This Argument Should Be Simply Return
-                .willAnswer(invocation -> invocation.getArgument(0));
+                .willReturn(Optional.empty());
 
         // When - Action or the Behavior that we are going to test
         ResultActions response = mockMvc.perform(
@@ -341,6 +878,271 @@ public class EmployeeControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    // JUnit Test for Update Employee REST API with a Current "If-Match"
+    @Test
+    @DisplayName("JUnit Test for Update Employee REST API with a Current If-Match")
+    void givenCurrentVersion_whenUpdateEmployeeIfMatch_thenReturnUpdatedEmployeeAndETag()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        Employee employeeFromRequest = Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build();
+
+        // To Mock the Conditional "employeeService.updateEmployee()" Method:
+        // the New Version is the Expected One Plus 1
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class), eq(Set.of(2L))))
+                .willAnswer(invocation -> {
+                    Employee updatedEmployee = invocation.getArgument(0);
+                    updatedEmployee.setVersion(3L);
+
+                    return Optional.of(updatedEmployee);
+                });
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeFromRequest))
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.email", is(employeeFromRequest.getEmail())));
+        verify(employeeService, never()).updateEmployee(ArgumentMatchers.any(Employee.class));
+    }
+
+    // JUnit Test for Update Employee REST API with a Stale "If-Match"
+    @Test
+    @DisplayName("JUnit Test for Update Employee REST API with a Stale If-Match")
+    void givenStaleVersion_whenUpdateEmployeeIfMatch_thenReturn412()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        Employee employeeFromRequest = Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build();
+
+        // To Mock the Conditional "employeeService.updateEmployee()" Method:
+        // the Employee was Modified since Version 1
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class), eq(Set.of(1L))))
+                .willThrow(new PreconditionFailedException("Employee was modified"));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeFromRequest))
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "412 PRECONDITION FAILED" in the Response
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    // JUnit Test for Update Employee REST API with a Weak "If-Match"
+    @Test
+    @DisplayName("JUnit Test for Update Employee REST API with a Weak If-Match")
+    void givenWeakETag_whenUpdateEmployeeIfMatch_thenMatchNoVersion()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        Employee employeeFromRequest = Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build();
+
+        // To Mock the Conditional "employeeService.updateEmployee()" Method:
+        // No Version is Named, so the Row Cannot Match
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class), eq(Set.of())))
+                .willThrow(new PreconditionFailedException("Employee was modified"));
+
+        // When - Action or the Behavior that we are going to test
+        // Weak Tags Never Match under the Strong Comparison of "If-Match"
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeFromRequest))
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "412 PRECONDITION FAILED" in the Response
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    // JUnit Test for Update Employee REST API with a List of "If-Match" Tags
+    @Test
+    @DisplayName("JUnit Test for Update Employee REST API with a List of If-Match Tags")
+    void givenETagList_whenUpdateEmployeeIfMatch_thenMatchAnyStrongVersion()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        Employee employeeFromRequest = Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build();
+
+        // To Mock the Conditional "employeeService.updateEmployee()" Method:
+        // the Row was at Version 2
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class),
+                eq(Set.of(1L, 2L))))
+                .willAnswer(invocation -> {
+                    Employee updatedEmployee = invocation.getArgument(0);
+                    updatedEmployee.setVersion(3L);
+
+                    return Optional.of(updatedEmployee);
+                });
+
+        // When - Action or the Behavior that we are going to test
+        // The Weak and Non-Version Tags are Skipped, Not the Whole List
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "\"1\", W/\"4\", \"abc\",\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeFromRequest))
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    // JUnit Test for Patch Employee REST API - Positive Scenario
+    @Test
+    @DisplayName("JUnit Test for Patch Employee REST API - Positive Scenario")
+    void givenMergePatch_whenPatchEmployee_thenReturnPatchedEmployeeAndETag()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        Employee patchedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal.updated@gmail.com")
+                .version(2L)
+                .build();
+
+        // To Mock "employeeService.patchEmployee()" Method: Only the Email
+        // is Changed
+        given(employeeService.patchEmployee(employeeId,
+                Map.of(EmployeeField.EMAIL, "ivanattal.updated@gmail.com")))
+                .willReturn(Optional.of(patchedEmployee));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                patch("/api/v1/employees/{id}", employeeId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\":\"ivanattal.updated@gmail.com\"}")
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                // The New Row Version
+                .andExpect(header().string("ETag", "\"2\""))
+                // Test Actual Value with the Expected Value
+                .andExpect(jsonPath("$.firstName", is("Ivan")))
+                .andExpect(jsonPath("$.email", is("ivanattal.updated@gmail.com")));
+    }
+
+    // JUnit Test for Patch Employee REST API with a Stale "If-Match"
+    @Test
+    @DisplayName("JUnit Test for Patch Employee REST API with a Stale If-Match")
+    void givenStaleVersion_whenPatchEmployeeIfMatch_thenReturn412()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        // To Mock the Conditional "employeeService.patchEmployee()" Method
+        given(employeeService.patchEmployee(employeeId, Set.of(1L),
+                Map.of(EmployeeField.FIRST_NAME, "Ivan")))
+                .willThrow(new PreconditionFailedException("Employee was modified"));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                patch("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "\"1\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"firstName\":\"Ivan\"}")
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "412 PRECONDITION FAILED" in the Response
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    // JUnit Test for Patch Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Patch Employee REST API - Negative Scenario")
+    void givenInvalidMergePatch_whenPatchEmployee_thenReturn400()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+
+        // When - Action or the Behavior that we are going to test
+        // Removing a Field, Patching the Id and an Unknown Field
+        for (String patch : List.of("{\"email\":null}", "{\"id\":\"4\"}",
+                "{\"salary\":\"1\"}", "[]")) {
+            ResultActions response = mockMvc.perform(
+                    patch("/api/v1/employees/{id}", employeeId)
+                            .contentType("application/merge-patch+json")
+                            .content(patch)
+            );
+
+            // Then - Verify the Output
+            response
+                    // Verify HTTP Status "400 BAD REQUEST" in the Response
+                    .andExpect(status().isBadRequest());
+        }
+        verify(employeeService, never()).patchEmployee(any(), any());
+    }
+
+    // JUnit Test for Patch Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Patch Employee REST API - Unknown Employee")
+    void givenUnknownEmployee_whenPatchEmployee_thenReturn404()
+            throws Exception {
+        // Given - Precondition or Setup
+        Long employeeId = 3L;
+        // To Mock "employeeService.patchEmployee()" Method
+        given(employeeService.patchEmployee(employeeId,
+                Map.of(EmployeeField.FIRST_NAME, "Ivan")))
+                .willReturn(Optional.empty());
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                patch("/api/v1/employees/{id}", employeeId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"firstName\":\"Ivan\"}")
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .andExpect(status().isNotFound());
+    }
+
     // JUnit Test for Delete Employee REST API
     @Test
     @DisplayName("JUnit Test for Delete Employee REST API")
@@ -348,7 +1150,7 @@ public class EmployeeControllerTests {
         // Given - Precondition or Setup
         // To Mock "employeeService.deleteEmployee()" Method
         Long employeeId = 5L;
-        willDoNothing().given(employeeService).deleteEmployee(employeeId);
+        given(employeeService.deleteEmployee(employeeId)).willReturn(true);
 
         // When - Action or the Behavior that we are going to test
         ResultActions response = mockMvc.perform(
@@ -362,4 +1164,90 @@ public class EmployeeControllerTests {
                 // Verify HTTP Status "200 OK" in the Response
                 .andExpect(status().isOk());
     }
+
+    // JUnit Test for Delete Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Delete Employee REST API - Negative Scenario")
+    void givenUnknownEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception {
+        // Given - Precondition or Setup
+        // To Mock "employeeService.deleteEmployee()" Method: No Row Deleted
+        Long employeeId = 5L;
+        given(employeeService.deleteEmployee(employeeId)).willReturn(false);
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                delete("/api/v1/employees/{id}", employeeId)
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .andExpect(status().isNotFound());
+    }
+
+    // JUnit Test for Delete Employee REST API with a Stale "If-Match"
+    @Test
+    @DisplayName("JUnit Test for Delete Employee REST API with a Stale If-Match")
+    void givenStaleVersion_whenDeleteEmployeeIfMatch_thenReturn412() throws Exception {
+        // Given - Precondition or Setup
+        // To Mock the Conditional "employeeService.deleteEmployee()" Method
+        Long employeeId = 5L;
+        given(employeeService.deleteEmployee(employeeId, Set.of(1L)))
+                .willThrow(new PreconditionFailedException("Employee was modified"));
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                delete("/api/v1/employees/{id}", employeeId)
+                        .header("If-Match", "\"1\"")
+        );
+
+        // Then - Verify the Output
+        response
+                // Verify HTTP Status "412 PRECONDITION FAILED" in the Response
+                .andExpect(status().isPreconditionFailed());
+        verify(employeeService, never()).deleteEmployee(employeeId);
+    }
+
+    // JUnit Test for Delete Employees REST API
+    @Test
+    @DisplayName("JUnit Test for Delete Employees REST API")
+    void givenEmployeeIds_whenDeleteEmployees_thenReturnNumberOfDeletedEmployees()
+            throws Exception {
+        // Given - Precondition or Setup
+        // To Mock "employeeService.deleteEmployees()" Method: One of the
+        // Employees does Not Exist (Duplicate Ids are Dropped)
+        given(employeeService.deleteEmployees(Set.of(1L, 2L, 3L))).willReturn(2);
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(
+                delete("/api/v1/employees").param("ids", "1,2,3,3")
+        );
+
+        // Then - Verify the Output
+        response
+                // To Print the Response of the REST API into the Console
+                .andDo(print())
+                // Verify HTTP Status "200 OK" in the Response
+                .andExpect(status().isOk())
+                .andExpect(content().string("2 Employees Deleted Successfully."));
+    }
+
+    // JUnit Test for Delete Employees REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Delete Employees REST API - Negative Scenario")
+    void givenTooManyOrMalformedIds_whenDeleteEmployees_thenReturn400() throws Exception {
+        // Given - Precondition or Setup
+        String tooManyIds = String.join(",", LongStream
+                .rangeClosed(1, 1_001)
+                .mapToObj(String::valueOf)
+                .toList());
+
+        // When / Then - Action or the Behavior that we are going to test
+        for (String ids : List.of(tooManyIds, "1,x", "")) {
+            mockMvc.perform(delete("/api/v1/employees").param("ids", ids))
+                    // Verify HTTP Status "400 BAD REQUEST" in the Response
+                    .andExpect(status().isBadRequest());
+        }
+        verify(employeeService, never()).deleteEmployees(any());
+    }
 }
@@ -0,0 +1,226 @@
+package com.dgmf.controller;
+
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.entity.Employee;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+
+@WebFluxTest(ReactiveEmployeeController.class)
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeControllerTests {
+    /* ============== FIELDS ============== */
+    // To mock Reactive Employee Service
+    @MockBean
+    private ReactiveEmployeeService employeeService;
+    // To call REST APIs
+    @Autowired
+    private WebTestClient webTestClient;
+
+    /* ============== START OF TESTS ============== */
+    // JUnit Test for Create Employee REST API
+    @Test
+    @DisplayName("JUnit Test for Create Employee REST API")
+    void givenEmployeeObject_whenCreateEmployee_thenReturnSavedEmployee() {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.post()
+                .uri("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange()
+                // Verify HTTP Status "201 CREATED" in the Response
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo(employee.getFirstName())
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+    }
+
+    // JUnit Test for Create Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Create Employee REST API - Negative Scenario")
+    void givenExistingEmail_whenCreateEmployee_thenReturn409() {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willReturn(Mono.error(new ResourceAlreadyExistsException(
+                        "Employee already exist with given email : "
+                                + employee.getEmail())));
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.post()
+                .uri("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employee)
+                .exchange()
+                // Verify HTTP Status "409 CONFLICT" in the Response
+                .expectStatus().isEqualTo(409);
+    }
+
+    // JUnit Test for Export Employees REST API (NDJSON Streaming)
+    @Test
+    @DisplayName("JUnit Test for Export Employees REST API")
+    void givenListOfEmployees_whenExportEmployees_thenStreamOneJsonLinePerEmployee() {
+        // Given - Precondition or Setup
+        List<Employee> employees = List.of(
+                Employee.builder()
+                        .id(1L)
+                        .firstName("Milhan")
+                        .lastName("Norton")
+                        .email("milhannorton@gmail.com")
+                        .build(),
+                Employee.builder()
+                        .id(2L)
+                        .firstName("Jeremy")
+                        .lastName("O'hara")
+                        .email("jeremyohara@gmail.com")
+                        .build()
+        );
+
+        given(employeeService.getAllEmployees()).willReturn(Flux.fromIterable(employees));
+
+        // When - Action or the Behavior that we are going to test
+        Flux<Employee> exportedEmployees = webTestClient.get()
+                .uri("/api/v1/employees/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Employee.class)
+                .getResponseBody();
+
+        // Then - Verify the Output
+        StepVerifier.create(exportedEmployees)
+                .expectNextSequence(employees)
+                .verifyComplete();
+    }
+
+    // JUnit Test for Get Employee By Id REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id REST API - Negative Scenario")
+    void givenInvalidEmployeeId_whenGetEmployeeById_thenReturn404() {
+        // Given - Precondition or Setup
+        long employeeId = 1L;
+
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Mono.empty());
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.get()
+                .uri("/api/v1/employees/{id}", employeeId)
+                .exchange()
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .expectStatus().isNotFound();
+    }
+
+    // JUnit Test for Update Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Update Employee REST API - Negative Scenario")
+    void givenInvalidEmployeeId_whenUpdateEmployee_thenReturn404() {
+        // Given - Precondition or Setup
+        long employeeId = 1L;
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+
+        given(employeeService.updateEmployee(ArgumentMatchers.any(Employee.class)))
+                .willReturn(Mono.empty());
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.put()
+                .uri("/api/v1/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedEmployee)
+                .exchange()
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .expectStatus().isNotFound();
+    }
+
+    // JUnit Test for Delete Employee REST API
+    @Test
+    @DisplayName("JUnit Test for Delete Employee REST API")
+    void givenEmployeeId_whenDeleteEmployee_thenReturn200() {
+        // Given - Precondition or Setup
+        long employeeId = 1L;
+
+        given(employeeService.deleteEmployee(employeeId)).willReturn(Mono.just(true));
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.delete()
+                .uri("/api/v1/employees/{id}", employeeId)
+                .exchange()
+                // Verify HTTP Status "200 OK" in the Response
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("Employee with Id 1 Deleted Successfully.");
+    }
+
+    // JUnit Test for Delete Employee REST API - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Delete Employee REST API - Negative Scenario")
+    void givenInvalidEmployeeId_whenDeleteEmployee_thenReturn404() {
+        // Given - Precondition or Setup
+        long employeeId = 1L;
+
+        given(employeeService.deleteEmployee(employeeId)).willReturn(Mono.just(false));
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.delete()
+                .uri("/api/v1/employees/{id}", employeeId)
+                .exchange()
+                // Verify HTTP Status "404 NOT FOUND" in the Response
+                .expectStatus().isNotFound();
+    }
+
+    // JUnit Test for Get Employees Page REST API without a Limit
+    @Test
+    @DisplayName("JUnit Test for Get Employees Page REST API without a Limit")
+    void givenCursorWithoutLimit_whenGetEmployees_thenReturnPageOfDefaultLimit() {
+        // Given - Precondition or Setup
+        given(employeeService.getEmployeesAfter(10L, 20))
+                .willReturn(Mono.just(new EmployeePage(List.of(), null)));
+
+        // When / Then - Action or the Behavior that we are going to test
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/employees")
+                        .queryParam("after", EmployeePage.encodeCursor(10L))
+                        .build())
+                .exchange()
+                // Verify HTTP Status "200 OK" in the Response
+                .expectStatus().isOk()
+                // A Page, Not the Whole Unpaged List
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(0);
+        verify(employeeService, never()).getAllEmployees();
+    }
+}
@@ -0,0 +1,157 @@
+package com.dgmf.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two Embedded H2 Databases Stand for the Primary and the Replica; Each
+// One Holds its Own Name so the Tests Can Tell where a Query Went
+public class ReadWriteRoutingDataSourceTests {
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    public void setup() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+
+        routingDataSource = new ReadWriteRoutingDataSource(
+                primary,
+                Map.of("replica-0", replica)
+        );
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    // JUnit Test for Routing a Read-Only Transaction before Any Lag Check
+    @Test
+    @DisplayName("JUnit Test for Routing a Read-Only Transaction before Any Lag Check")
+    void givenUncheckedReplica_whenQueryInReadOnlyTransaction_thenUsePrimary() {
+        // When - Action or the Behavior that we are going to test
+        String databaseName = readOnlyTransaction.execute(status -> databaseName());
+
+        // Then - Verify the Output
+        assertThat(routingDataSource.isReplicaAvailable("replica-0")).isFalse();
+        assertThat(databaseName).isEqualTo("primary");
+    }
+
+    // JUnit Test for Routing a Read-Only Transaction
+    @Test
+    @DisplayName("JUnit Test for Routing a Read-Only Transaction")
+    void givenReadOnlyTransaction_whenQuery_thenUseReplica() {
+        // Given - Precondition or Setup
+        routingDataSource.setReplicaAvailable("replica-0", true);
+
+        // When - Action or the Behavior that we are going to test
+        String databaseName = readOnlyTransaction.execute(status -> databaseName());
+
+        // Then - Verify the Output
+        assertThat(databaseName).isEqualTo("replica");
+    }
+
+    // JUnit Test for Routing a Read/Write Transaction
+    @Test
+    @DisplayName("JUnit Test for Routing a Read/Write Transaction")
+    void givenReadWriteTransaction_whenQuery_thenUsePrimary() {
+        // When - Action or the Behavior that we are going to test
+        String databaseName = readWriteTransaction.execute(status -> databaseName());
+
+        // Then - Verify the Output
+        assertThat(databaseName).isEqualTo("primary");
+    }
+
+    // JUnit Test for Routing a Read-Only Transaction to a Lagging Replica
+    @Test
+    @DisplayName("JUnit Test for Routing a Read-Only Transaction to a Lagging Replica")
+    void givenLaggingReplica_whenQueryInReadOnlyTransaction_thenFallBackToPrimary() {
+        // Given - Precondition or Setup
+        // H2 Has No Replication Status, so the Lag Cannot Be Measured
+        routingDataSource.setReplicaAvailable("replica-0", true);
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                routingDataSource,
+                Map.of("replica-0", replica),
+                Duration.ofSeconds(5),
+                "SHOW REPLICA STATUS",
+                "Seconds_Behind_Source"
+        );
+        replicaLagMonitor.checkReplicaLag();
+
+        // When - Action or the Behavior that we are going to test
+        String databaseName = readOnlyTransaction.execute(status -> databaseName());
+
+        // Then - Verify the Output
+        assertThat(routingDataSource.isReplicaAvailable("replica-0")).isFalse();
+        assertThat(databaseName).isEqualTo("primary");
+    }
+
+    // JUnit Test for Routing a Read-Only Transaction to a Caught Up Replica
+    @Test
+    @DisplayName("JUnit Test for Routing a Read-Only Transaction to a Caught Up Replica")
+    void givenReplicaWithinMaxLag_whenQueryInReadOnlyTransaction_thenUseReplica() {
+        // Given - Precondition or Setup
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(
+                routingDataSource,
+                Map.of("replica-0", replica),
+                Duration.ofSeconds(5),
+                "SELECT 2 AS lag_seconds",
+                "LAG_SECONDS"
+        );
+        replicaLagMonitor.checkReplicaLag();
+
+        // When - Action or the Behavior that we are going to test
+        String databaseName = readOnlyTransaction.execute(status -> databaseName());
+
+        // Then - Verify the Output
+        assertThat(databaseName).isEqualTo("replica");
+    }
+
+    private String databaseName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class);
+    }
+
+    private static EmbeddedDatabase embeddedDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        new JdbcTemplate(database).execute(
+                "CREATE TABLE database_name (name VARCHAR(20))");
+        new JdbcTemplate(database).update(
+                "INSERT INTO database_name VALUES (?)", name);
+
+        return database;
+    }
+}
@@ -0,0 +1,78 @@
+package com.dgmf.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmailBloomFilterTests {
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    public void setup() {
+        emailBloomFilter = new EmailBloomFilter(10_000, 0.01);
+    }
+
+    // JUnit Test for Might Contain Method before Loading
+    @Test
+    @DisplayName("JUnit Test for Might Contain Method before Loading")
+    void givenFilterNotLoaded_whenMightContain_thenReturnTrue() {
+        // When - Action or the Behavior that we are going to test
+        boolean mightContain = emailBloomFilter.mightContain("johndoe@gmail.com");
+
+        // Then - Verify the Output
+        assertThat(mightContain).isTrue();
+    }
+
+    // JUnit Test for Might Contain Method with Known Emails
+    @Test
+    @DisplayName("JUnit Test for Might Contain Method with Known Emails")
+    void givenLoadedEmails_whenMightContain_thenNeverReturnFalse() {
+        // Given - Precondition or Setup
+        emailBloomFilter.load(IntStream.range(0, 10_000)
+                .mapToObj(i -> "employee" + i + "@gmail.com"));
+
+        // When / Then - No False Negatives, whatever the Case or Accents
+        IntStream.range(0, 10_000).forEach(i -> assertThat(emailBloomFilter
+                .mightContain("employee" + i + "@gmail.com")).isTrue());
+        assertThat(emailBloomFilter.mightContain("EMPLOYEE1@GMAIL.COM")).isTrue();
+    }
+
+    // JUnit Test for Might Contain Method with Accented Emails
+    @Test
+    @DisplayName("JUnit Test for Might Contain Method with Accented Emails")
+    void givenAccentedEmail_whenMightContainUnaccented_thenReturnTrue() {
+        // Given - Precondition or Setup
+        emailBloomFilter.load(Stream.of("nolibéeperceval@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        boolean mightContain = emailBloomFilter
+                .mightContain("nolibeeperceval@gmail.com");
+
+        // Then - Verify the Output
+        assertThat(mightContain).isTrue();
+    }
+
+    // JUnit Test for the False-Positive Rate
+    @Test
+    @DisplayName("JUnit Test for the False-Positive Rate")
+    void givenLoadedEmails_whenMightContainUnknownEmails_thenFalsePositiveRateIsBounded() {
+        // Given - Precondition or Setup
+        emailBloomFilter.load(IntStream.range(0, 10_000)
+                .mapToObj(i -> "employee" + i + "@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> emailBloomFilter.mightContain("unknown" + i + "@gmail.com"))
+                .count();
+
+        // Then - Verify the Output
+        // Sized for 1%: Allow Some Statistical Margin
+        assertThat(falsePositives / 100_000d).isLessThan(0.02);
+        assertThat(emailBloomFilter.getEstimatedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,170 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeSearchIndexTests {
+    private EmployeeSearchIndex employeeSearchIndex;
+    // Write Sequences of the Puts and Removes, in Commit Order
+    private long writeSequence;
+
+    @BeforeEach
+    public void setup() {
+        employeeSearchIndex = new EmployeeSearchIndex(0.5);
+        employeeSearchIndex.load(Stream.of(
+                employee(1L, "John", "Doe", "johndoe@gmail.com"),
+                employee(2L, "Jonathan", "Smith", "jsmith@gmail.com"),
+                employee(3L, "Noëlie", "Perceval", "nperceval@gmail.com"),
+                employee(4L, "Milhan", "Norton", "milhannorton@gmail.com")
+        ));
+    }
+
+    // JUnit Test for Search Method with a Substring of a Name
+    @Test
+    @DisplayName("JUnit Test for Search Method with a Substring of a Name")
+    void givenSubstringOfName_whenSearch_thenReturnMatchingEmployees() {
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult searchResult =
+                employeeSearchIndex.search("ercev", 0, 10);
+
+        // Then - Verify the Output
+        assertThat(searchResult.employees())
+                .extracting(EmployeeView::id)
+                .containsExactly(3L);
+        assertThat(searchResult.hasMore()).isFalse();
+    }
+
+    // JUnit Test for Search Method with a Typo and without Accents
+    @Test
+    @DisplayName("JUnit Test for Search Method with a Typo and without Accents")
+    void givenMisspelledUnaccentedName_whenSearch_thenReturnMatchingEmployees() {
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult searchResult =
+                employeeSearchIndex.search("NOELIE Percevel", 0, 10);
+
+        // Then - Verify the Output
+        assertThat(searchResult.employees())
+                .extracting(EmployeeView::id)
+                .containsExactly(3L);
+    }
+
+    // JUnit Test for Search Method Ranking
+    @Test
+    @DisplayName("JUnit Test for Search Method Ranking")
+    void givenPrefixSharedByEmployees_whenSearch_thenRankWholeMatchesFirst() {
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult searchResult =
+                employeeSearchIndex.search("john", 0, 10);
+
+        // Then - Verify the Output
+        // "Jonathan" Shares "  j" and " jo" with "john", but Not "joh"
+        assertThat(searchResult.employees())
+                .extracting(EmployeeView::id)
+                .startsWith(1L);
+    }
+
+    // JUnit Test for Put and Remove Methods
+    @Test
+    @DisplayName("JUnit Test for Put and Remove Methods")
+    void givenUpdatedAndRemovedEmployees_whenSearch_thenReturnCurrentEmployees() {
+        // Given - Precondition or Setup
+        employeeSearchIndex.put(employee(1L, "Johnny", "Dupont", "jdupont@gmail.com"), ++writeSequence);
+        employeeSearchIndex.remove(4L, ++writeSequence);
+
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult dupont = employeeSearchIndex.search("dupont", 0, 10);
+        EmployeeSearchIndex.SearchResult doe = employeeSearchIndex.search("doe", 0, 10);
+        EmployeeSearchIndex.SearchResult norton = employeeSearchIndex.search("norton", 0, 10);
+
+        // Then - Verify the Output
+        assertThat(dupont.employees()).extracting(EmployeeView::id).containsExactly(1L);
+        assertThat(doe.employees()).isEmpty();
+        assertThat(norton.employees()).isEmpty();
+        assertThat(employeeSearchIndex.getSize()).isEqualTo(3);
+    }
+
+    // JUnit Test for Put and Remove Methods Run Out of Order
+    @Test
+    @DisplayName("JUnit Test for Put and Remove Methods Run Out of Order")
+    void givenOlderWritesAfterNewerOnes_whenSearch_thenReturnNewestEmployees() {
+        // Given - Precondition or Setup
+        // Writes 2, then 1 (After Commit Hooks in Reverse Order)
+        employeeSearchIndex.put(employee(1L, "Johnny", "Dupont", "jdupont@gmail.com"), 2);
+        employeeSearchIndex.put(employee(1L, "Jean", "Durand", "jdurand@gmail.com"), 1);
+        // Deleted, then a Write Committed before the Delete
+        employeeSearchIndex.remove(4L, 4);
+        employeeSearchIndex.put(employee(4L, "Milhan", "Norton", "mnorton@gmail.com"), 3);
+
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult dupont = employeeSearchIndex.search("dupont", 0, 10);
+        EmployeeSearchIndex.SearchResult durand = employeeSearchIndex.search("durand", 0, 10);
+        EmployeeSearchIndex.SearchResult norton = employeeSearchIndex.search("norton", 0, 10);
+
+        // Then - Verify the Output
+        assertThat(dupont.employees()).extracting(EmployeeView::id).containsExactly(1L);
+        assertThat(durand.employees()).isEmpty();
+        assertThat(norton.employees()).isEmpty();
+    }
+
+    // JUnit Test for Search Method Pagination
+    @Test
+    @DisplayName("JUnit Test for Search Method Pagination")
+    void givenManyMatches_whenSearchPages_thenReturnEachEmployeeOnce() {
+        // Given - Precondition or Setup
+        // Enough Removals to Trigger a Compaction of the Postings
+        IntStream.range(100, 2_600).forEach(i -> employeeSearchIndex.put(
+                employee((long) i, "Clone", "Number" + i, "clone" + i + "@gmail.com"), ++writeSequence));
+        IntStream.range(100, 1_600).forEach(i -> employeeSearchIndex.remove((long) i, ++writeSequence));
+
+        // When - Action or the Behavior that we are going to test
+        EmployeeSearchIndex.SearchResult firstPage = employeeSearchIndex.search("clone", 0, 600);
+        EmployeeSearchIndex.SearchResult secondPage = employeeSearchIndex.search("clone", 600, 600);
+
+        // Then - Verify the Output
+        assertThat(firstPage.employees()).hasSize(600);
+        assertThat(firstPage.hasMore()).isTrue();
+        assertThat(secondPage.employees()).hasSize(400);
+        assertThat(secondPage.hasMore()).isFalse();
+        assertThat(Stream.concat(
+                firstPage.employees().stream(),
+                secondPage.employees().stream()
+        ).map(EmployeeView::id).distinct()).hasSize(1_000);
+    }
+
+    // JUnit Test for Compaction of the Removed Documents
+    @Test
+    @DisplayName("JUnit Test for Compaction of the Removed Documents")
+    void givenWritesDuringCompaction_whenCompacted_thenReturnCurrentEmployees() throws Exception {
+        // Given - Precondition or Setup
+        IntStream.range(100, 2_600).forEach(i -> employeeSearchIndex.put(
+                employee((long) i, "Clone", "Number" + i, "clone" + i + "@gmail.com"), ++writeSequence));
+        // The 1000th Removal Schedules the Compaction; the Writes after it
+        // Are Replayed onto the Compacted Documents
+        IntStream.range(100, 1_600).forEach(i -> employeeSearchIndex.remove((long) i, ++writeSequence));
+        IntStream.range(1_600, 1_610).forEach(i -> employeeSearchIndex.put(
+                employee((long) i, "Clone", "Renamed", "clone" + i + "@gmail.com"), ++writeSequence));
+
+        // When - Action or the Behavior that we are going to test
+        employeeSearchIndex.awaitCompaction();
+
+        // Then - Verify the Output
+        assertThat(employeeSearchIndex.getRemovedCount()).isLessThan(1_000);
+        assertThat(employeeSearchIndex.getSize()).isEqualTo(1_004);
+        assertThat(employeeSearchIndex.search("clone", 0, 2_000).employees()).hasSize(1_000);
+        assertThat(employeeSearchIndex.search("renamed", 0, 20).employees())
+                .extracting(EmployeeView::id)
+                .containsExactlyInAnyOrderElementsOf(
+                        IntStream.range(1_600, 1_610).mapToObj(i -> (long) i).toList());
+    }
+
+    private static EmployeeView employee(Long id, String firstName, String lastName, String email) {
+        return new EmployeeView(id, firstName, lastName, email);
+    }
+}
@@ -0,0 +1,148 @@
+package com.dgmf.index;
+
+import com.dgmf.dto.EmployeeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeSuggestIndexTests {
+    private EmployeeSuggestIndex employeeSuggestIndex;
+    // Write Sequences of the Puts and Removes, in Commit Order
+    private long writeSequence;
+
+    @BeforeEach
+    public void setup() {
+        employeeSuggestIndex = new EmployeeSuggestIndex();
+        employeeSuggestIndex.load(Stream.of(
+                employee(1L, "John", "Doe", "johndoe@gmail.com"),
+                employee(2L, "Jonathan", "Smith", "jsmith@gmail.com"),
+                employee(3L, "Noëlie", "Perceval", "nperceval@gmail.com"),
+                employee(4L, "Milhan", "Norton", "milhannorton@gmail.com")
+        ));
+    }
+
+    // JUnit Test for Suggest Method with a Prefix of Names and Emails
+    @Test
+    @DisplayName("JUnit Test for Suggest Method with a Prefix of Names and Emails")
+    void givenPrefix_whenSuggest_thenReturnEmployeesInKeyOrder() {
+        // When - Action or the Behavior that we are going to test
+        // "john" (First Name), "johndoe@..." (Email), "jonathan", "jsmith@..."
+        List<EmployeeView> suggestions = employeeSuggestIndex.suggest("J", 10);
+
+        // Then - Verify the Output
+        assertThat(suggestions)
+                .extracting(EmployeeView::id)
+                .containsExactly(1L, 2L);
+    }
+
+    // JUnit Test for Suggest Method with Accents and a Limit
+    @Test
+    @DisplayName("JUnit Test for Suggest Method with Accents and a Limit")
+    void givenUnaccentedPrefixAndLimit_whenSuggest_thenReturnAtMostLimit() {
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeView> noelie = employeeSuggestIndex.suggest("noel", 10);
+        List<EmployeeView> n = employeeSuggestIndex.suggest("n", 1);
+        List<EmployeeView> unknown = employeeSuggestIndex.suggest("noelx", 10);
+
+        // Then - Verify the Output
+        assertThat(noelie).extracting(EmployeeView::id).containsExactly(3L);
+        // "noelie" Comes before "norton" and "nperceval@..."
+        assertThat(n).extracting(EmployeeView::id).containsExactly(3L);
+        assertThat(unknown).isEmpty();
+    }
+
+    // JUnit Test for Put and Remove Methods
+    @Test
+    @DisplayName("JUnit Test for Put and Remove Methods")
+    void givenUpdatedAndRemovedEmployees_whenSuggest_thenReturnCurrentEmployees() {
+        // Given - Precondition or Setup
+        employeeSuggestIndex.put(employee(1L, "Johnny", "Dupont", "jdupont@gmail.com"), ++writeSequence);
+        employeeSuggestIndex.remove(2L, ++writeSequence);
+
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeView> jo = employeeSuggestIndex.suggest("jo", 10);
+        List<EmployeeView> du = employeeSuggestIndex.suggest("du", 10);
+
+        // Then - Verify the Output
+        assertThat(jo).extracting(EmployeeView::firstName).containsExactly("Johnny");
+        assertThat(du).extracting(EmployeeView::id).containsExactly(1L);
+        assertThat(employeeSuggestIndex.suggest("doe", 10)).isEmpty();
+        assertThat(employeeSuggestIndex.suggest("smith", 10)).isEmpty();
+        assertThat(employeeSuggestIndex.getSize()).isEqualTo(3);
+    }
+
+    // JUnit Test for Put and Remove Methods Run Out of Order
+    @Test
+    @DisplayName("JUnit Test for Put and Remove Methods Run Out of Order")
+    void givenOlderWritesAfterNewerOnes_whenSuggest_thenReturnNewestEmployees() {
+        // Given - Precondition or Setup
+        // Writes 2, then 1 (After Commit Hooks in Reverse Order)
+        employeeSuggestIndex.put(employee(1L, "Johnny", "Dupont", "jdupont@gmail.com"), 2);
+        employeeSuggestIndex.put(employee(1L, "Jean", "Durand", "jdurand@gmail.com"), 1);
+        // Deleted, then a Write Committed before the Delete
+        employeeSuggestIndex.remove(2L, 4);
+        employeeSuggestIndex.put(employee(2L, "Jonathan", "Smith", "jsmith@gmail.com"), 3);
+
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeView> du = employeeSuggestIndex.suggest("du", 10);
+        List<EmployeeView> smith = employeeSuggestIndex.suggest("smith", 10);
+
+        // Then - Verify the Output
+        assertThat(du).extracting(EmployeeView::lastName).containsExactly("Dupont");
+        assertThat(smith).isEmpty();
+        assertThat(employeeSuggestIndex.getSize()).isEqualTo(3);
+    }
+
+    // JUnit Test for the Memory Estimate after Removals
+    @Test
+    @DisplayName("JUnit Test for the Memory Estimate after Removals")
+    void givenAddedThenRemovedEmployees_whenGetMemoryBytes_thenReturnInitialMemory() {
+        // Given - Precondition or Setup
+        long initialMemoryBytes = employeeSuggestIndex.getMemoryBytes();
+        IntStream.range(100, 1_100).forEach(i -> employeeSuggestIndex.put(
+                employee((long) i, "First" + i, "Last" + i, "employee" + i + "@gmail.com"), ++writeSequence));
+
+        // When - Action or the Behavior that we are going to test
+        long loadedMemoryBytes = employeeSuggestIndex.getMemoryBytes();
+        IntStream.range(100, 1_100).forEach(i -> employeeSuggestIndex.remove((long) i, ++writeSequence));
+
+        // Then - Verify the Output
+        // Removals Prune and Re-Compress the Trie
+        assertThat(loadedMemoryBytes).isGreaterThan(initialMemoryBytes);
+        assertThat(employeeSuggestIndex.getMemoryBytes()).isEqualTo(initialMemoryBytes);
+        assertThat(employeeSuggestIndex.suggest("j", 10))
+                .extracting(EmployeeView::id)
+                .containsExactly(1L, 2L);
+    }
+
+    // JUnit Test for the Memory Estimate Kept by Each Change
+    @Test
+    @DisplayName("JUnit Test for the Memory Estimate Kept by Each Change")
+    void givenPutsReplacementsAndRemovals_whenGetMemoryBytes_thenMatchWholeTrieWalk() {
+        // Given - Precondition or Setup
+        // Shared Prefixes Split Edges; Replacements and Removals Shrink Id
+        // Arrays, Prune Leaves and Merge Nodes
+        IntStream.range(100, 600).forEach(i -> employeeSuggestIndex.put(
+                employee((long) i, "Jo" + (i % 7), "Do" + (i % 13), "jo" + i + "@gmail.com"), ++writeSequence));
+        IntStream.range(100, 600).filter(i -> i % 3 == 0).forEach(i -> employeeSuggestIndex.put(
+                employee((long) i, "Ja" + i, "Du" + (i % 5), "ja" + i + "@gmail.com"), ++writeSequence));
+
+        // When - Action or the Behavior that we are going to test
+        IntStream.range(100, 600).filter(i -> i % 2 == 0)
+                .forEach(i -> employeeSuggestIndex.remove((long) i, ++writeSequence));
+
+        // Then - Verify the Output
+        assertThat(employeeSuggestIndex.getMemoryBytes())
+                .isEqualTo(employeeSuggestIndex.measureMemoryBytes());
+    }
+
+    private static EmployeeView employee(Long id, String firstName, String lastName, String email) {
+        return new EmployeeView(id, firstName, lastName, email);
+    }
+}
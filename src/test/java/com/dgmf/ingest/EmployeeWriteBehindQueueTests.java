@@ -0,0 +1,344 @@
+package com.dgmf.ingest;
+
+import com.dgmf.dto.EmployeeCreation;
+import com.dgmf.entity.Employee;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeWriteBehindQueueTests {
+    @Mock
+    private EmployeeService employeeService;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (employeeWriteBehindQueue != null) {
+            employeeWriteBehindQueue.stop();
+        }
+    }
+
+    // JUnit Test for Enqueue Method
+    @Test
+    @DisplayName("JUnit Test for Enqueue Method")
+    void givenQueuedEmployees_whenFlusherStarts_thenInsertThemInOneBatch()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L, 102L);
+        // The Flusher Reuses its Batch: Keep a Copy of Each One
+        List<List<Employee>> batches = new CopyOnWriteArrayList<>();
+        given(employeeService.saveReservedEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            batches.add(List.copyOf(employees));
+            return employees;
+        });
+        Long employeeId = employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+        Long employeeId2 = employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        employeeWriteBehindQueue.start();
+        awaitStatus(employeeId2, EmployeeCreation.Status.CREATED);
+
+        // Then - Verify the Output
+        assertThat(employeeId).isEqualTo(101L);
+        assertThat(employeeWriteBehindQueue.getCreation(employeeId))
+                .contains(EmployeeCreation.created(employeeId));
+        assertThat(batches).singleElement()
+                .satisfies(batch -> assertThat(batch).extracting(Employee::getReservedId)
+                        .containsExactly(101L, 102L));
+    }
+
+    // JUnit Test for Enqueue Method with a Full Queue (Backpressure)
+    @Test
+    @DisplayName("JUnit Test for Enqueue Method with a Full Queue")
+    void givenFullQueue_whenEnqueue_thenThrowsServiceUnavailableException() {
+        // Given - Precondition or Setup
+        // The Flusher is Not Started: Nothing Leaves the Queue
+        employeeWriteBehindQueue = newQueue(1);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L);
+        employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+
+        // When / Then - Action or the Behavior that we are going to test
+        assertThrows(ServiceUnavailableException.class,
+                () -> employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com")));
+        // No Id is Reserved for a Rejected Create
+        verify(employeeRepository, times(1)).reserveEmployeeId();
+    }
+
+    // JUnit Test for Enqueue Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Enqueue Method - Negative Scenario")
+    void givenTakenOrQueuedEmail_whenEnqueue_thenThrowsResourceAlreadyExistsException() {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L);
+        given(emailBloomFilter.mightContain("johndoe@gmail.com")).willReturn(false);
+        given(emailBloomFilter.mightContain("markirish@gmail.com")).willReturn(true);
+        given(employeeRepository.findExistingEmails(List.of("markirish@gmail.com")))
+                .willReturn(List.of("markirish@gmail.com"));
+        employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+
+        // When / Then - Action or the Behavior that we are going to test
+        // Already Queued, then Already Inserted
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com")));
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com")));
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeWriteBehindQueue.enqueue(Employee.builder()
+                        .firstName("John")
+                        .email("john@gmail.com")
+                        .build()));
+        verify(employeeRepository, times(1)).reserveEmployeeId();
+    }
+
+    // JUnit Test for Flushing a Batch with a Rejected Employee
+    @Test
+    @DisplayName("JUnit Test for Flushing a Batch with a Rejected Employee")
+    void givenBatchWithTakenEmail_whenFlush_thenFailOnlyThatEmployee()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L, 102L);
+        // The Batch is Rejected, then Each Employee is Inserted Alone
+        given(employeeService.saveReservedEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+
+            if (employees.stream().anyMatch(employee ->
+                    employee.getEmail().equals("markirish@gmail.com"))) {
+                throw new ResourceAlreadyExistsException("Employee already exist " +
+                        "with given emails : [markirish@gmail.com]");
+            }
+
+            return employees;
+        });
+        Long employeeId = employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+        Long employeeId2 = employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        employeeWriteBehindQueue.start();
+        awaitStatus(employeeId2, EmployeeCreation.Status.FAILED);
+        awaitStatus(employeeId, EmployeeCreation.Status.CREATED);
+
+        // Then - Verify the Output
+        assertThat(employeeWriteBehindQueue.getCreation(employeeId2)).get()
+                .extracting(EmployeeCreation::reason)
+                .asString()
+                .contains("markirish@gmail.com");
+        verify(employeeService, times(3)).saveReservedEmployees(anyList());
+    }
+
+    // JUnit Test for Get Creation Method without a Local Status
+    @Test
+    @DisplayName("JUnit Test for Get Creation Method without a Local Status")
+    void givenNoLocalStatus_whenGetCreation_thenCreatedOnlyIfEmployeeExists() {
+        // Given - Precondition or Setup
+        // Queued by Another Instance (or Status Expired)
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.existsById(101L)).willReturn(true);
+        given(employeeRepository.existsById(102L)).willReturn(false);
+
+        // When - Action or the Behavior that we are going to test
+        Optional<EmployeeCreation> creation = employeeWriteBehindQueue.getCreation(101L);
+        Optional<EmployeeCreation> missingCreation = employeeWriteBehindQueue.getCreation(102L);
+
+        // Then - Verify the Output
+        assertThat(creation).contains(EmployeeCreation.created(101L));
+        assertThat(missingCreation).isEmpty();
+    }
+
+    // JUnit Test for Flushing a Batch with a Transient Error
+    @Test
+    @DisplayName("JUnit Test for Flushing a Batch with a Transient Error")
+    void givenTransientError_whenFlush_thenRetryTheWholeBatch()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L, 102L);
+        // Lock Timeouts Twice, then Inserted
+        List<List<Employee>> batches = new CopyOnWriteArrayList<>();
+        given(employeeService.saveReservedEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            batches.add(List.copyOf(employees));
+
+            if (batches.size() <= 2) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+
+            return employees;
+        });
+        Long employeeId = employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+        Long employeeId2 = employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        employeeWriteBehindQueue.start();
+        awaitStatus(employeeId2, EmployeeCreation.Status.CREATED);
+
+        // Then - Verify the Output
+        // The Same Batch Each Time, Never Split
+        assertThat(employeeWriteBehindQueue.getCreation(employeeId))
+                .contains(EmployeeCreation.created(employeeId));
+        assertThat(batches).hasSize(3)
+                .allSatisfy(batch -> assertThat(batch).extracting(Employee::getReservedId)
+                        .containsExactly(101L, 102L));
+    }
+
+    // JUnit Test for Flushing a Batch with an Unexpected Error
+    @Test
+    @DisplayName("JUnit Test for Flushing a Batch with an Unexpected Error")
+    void givenUnexpectedError_whenFlush_thenFailTheWholeBatch()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L, 102L);
+        given(employeeService.saveReservedEmployees(anyList()))
+                .willThrow(new IllegalStateException("Unexpected"));
+        Long employeeId = employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+        Long employeeId2 = employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com"));
+
+        // When - Action or the Behavior that we are going to test
+        employeeWriteBehindQueue.start();
+        awaitStatus(employeeId, EmployeeCreation.Status.FAILED);
+        awaitStatus(employeeId2, EmployeeCreation.Status.FAILED);
+
+        // Then - Verify the Output
+        // Neither Retried Nor Split
+        verify(employeeService, times(1)).saveReservedEmployees(anyList());
+    }
+
+    // JUnit Test for Stop Method (Shutdown)
+    @Test
+    @DisplayName("JUnit Test for Stop Method")
+    void givenQueuedEmployee_whenStop_thenFlushItAndRejectNewCreates()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(10);
+        given(employeeRepository.reserveEmployeeId()).willReturn(101L);
+        Long employeeId = employeeWriteBehindQueue.enqueue(employee("johndoe@gmail.com"));
+        employeeWriteBehindQueue.start();
+
+        // When - Action or the Behavior that we are going to test
+        employeeWriteBehindQueue.stop();
+
+        // Then - Verify the Output
+        assertThat(employeeWriteBehindQueue.getCreation(employeeId))
+                .contains(EmployeeCreation.created(employeeId));
+        assertThrows(ServiceUnavailableException.class,
+                () -> employeeWriteBehindQueue.enqueue(employee("markirish@gmail.com")));
+        verify(employeeService, never()).saveEmployees(any());
+    }
+
+    // JUnit Test for Stop Method under Concurrent Creates
+    @Test
+    @DisplayName("JUnit Test for Stop Method under Concurrent Creates")
+    void givenConcurrentCreates_whenStop_thenEveryAcceptedCreateIsFlushed()
+            throws Exception {
+        // Given - Precondition or Setup
+        employeeWriteBehindQueue = newQueue(100_000);
+        AtomicLong reservedIds = new AtomicLong();
+        given(employeeRepository.reserveEmployeeId())
+                .willAnswer(invocation -> reservedIds.incrementAndGet());
+        given(employeeService.saveReservedEmployees(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        employeeWriteBehindQueue.start();
+        List<Long> acceptedIds = new CopyOnWriteArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        AtomicLong emails = new AtomicLong();
+
+        for (int i = 0; i < 8; i++) {
+            executorService.submit(() -> {
+                try {
+                    while (true) {
+                        acceptedIds.add(employeeWriteBehindQueue.enqueue(
+                                employee(emails.incrementAndGet() + "@gmail.com")));
+                    }
+                } catch (ServiceUnavailableException e) {
+                    // Shutting Down
+                }
+            });
+        }
+
+        // When - Action or the Behavior that we are going to test
+        Thread.sleep(50);
+        employeeWriteBehindQueue.stop();
+        executorService.shutdown();
+
+        // Then - Verify the Output
+        // No Create was Accepted after the Flusher's Last Poll
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(acceptedIds).isNotEmpty()
+                .allSatisfy(employeeId -> assertThat(employeeWriteBehindQueue
+                        .getCreation(employeeId))
+                        .contains(EmployeeCreation.created(employeeId)));
+    }
+
+    private EmployeeWriteBehindQueue newQueue(int capacity) {
+        return new EmployeeWriteBehindQueue(
+                employeeService,
+                employeeRepository,
+                emailBloomFilter,
+                transactionManager,
+                capacity,
+                500,
+                Duration.ofMinutes(10),
+                Duration.ofSeconds(10),
+                Duration.ofMillis(10)
+        );
+    }
+
+    private void awaitStatus(Long employeeId, EmployeeCreation.Status status)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (employeeWriteBehindQueue.getCreation(employeeId)
+                .map(creation -> creation.status() != status)
+                .orElse(true)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Employee employee(String email) {
+        return Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.dgmf.integration;
 
 import com.dgmf.entity.Employee;
+import com.dgmf.repository.EmployeeGenerationRepository;
 import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.sql.SqlStatistics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +14,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +45,14 @@ public class EmployeeControllerIntegrationTests extends AbstractContainerBaseTes
     // Perform Different Operations on DB
     @Autowired
     private EmployeeRepository employeeRepository;
+    // To Simulate Writes Made by Another Instance
+    @Autowired
+    private EmployeeGenerationRepository employeeGenerationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    // To Count the SQL Statements Sent to the DB
+    @Autowired
+    private SqlStatistics sqlStatistics;
     // To Serialize and Deserialize Objects (Jackson Library)
     @Autowired
     private ObjectMapper objectMapper;
@@ -93,6 +113,164 @@ public class EmployeeControllerIntegrationTests extends AbstractContainerBaseTes
                 );
     }
 
+    // Integration Test for Create Employee REST API with an Id in the Request
+    @Test
+    @DisplayName("Integration Test for Create Employee REST API with an Id in the Request")
+    void givenEmployeeWithId_whenCreateEmployee_thenSaveWithGeneratedId()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee existingEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal@gmail.com")
+                .build());
+        Employee employee = Employee.builder()
+                .id(existingEmployee.getId())
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        // When - Action or the Behavior that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // Then - Verify the Output
+        // A New Employee with a Generated Id; the Existing One is Untouched
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", not(existingEmployee.getId().intValue())))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+        assertThat(employeeRepository.findById(existingEmployee.getId()))
+                .get()
+                .extracting(Employee::getEmail)
+                .isEqualTo("ivanattal@gmail.com");
+    }
+
+    // Integration Test for Create Employee REST API under Concurrency
+    // Many Parallel Creates with the Same Email: Exactly One Must Win
+    @Test
+    @DisplayName("Integration Test for Create Employee REST API under Concurrency")
+    void givenParallelDuplicateCreates_whenCreateEmployee_thenOnlyOneIsSaved()
+            throws Exception {
+        // Given - Precondition or Setup
+        int parallelRequests = 32;
+        String employeeJson = objectMapper.writeValueAsString(
+                Employee.builder()
+                        .firstName("Xavi")
+                        .lastName("Disturb")
+                        .email("xavidisturb@gmail.com")
+                        .build()
+        );
+        ExecutorService executorService = Executors
+                .newFixedThreadPool(parallelRequests);
+        // To Release All Requests at the Same Time
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Integer>> responseStatuses = new ArrayList<>();
+
+        // When - Action or the Behavior that we are going to test
+        try {
+            for (int i = 0; i < parallelRequests; i++) {
+                responseStatuses.add(executorService.submit(() -> {
+                    startSignal.await();
+
+                    return mockMvc.perform(post("/api/v1/employees")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(employeeJson))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                }));
+            }
+
+            startSignal.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> responseStatus : responseStatuses) {
+                statuses.add(responseStatus.get());
+            }
+
+            // Then - Verify the Output
+            // One "201 CREATED", All Others "409 CONFLICT"
+            assertThat(statuses).filteredOn(status -> status == 201).hasSize(1);
+            assertThat(statuses).filteredOn(status -> status == 409)
+                    .hasSize(parallelRequests - 1);
+            assertThat(employeeRepository.count()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Integration Test for Create Employee REST API in Write-Behind Mode
+    // Each Create is Accepted with its Reserved Id, then Inserted by the
+    // Background Flusher under that Same Id
+    @Test
+    @DisplayName("Integration Test for Create Employee REST API in Write-Behind Mode")
+    void givenEmployeeObjects_whenCreateEmployeeAsync_thenInsertThemWithReservedIds()
+            throws Exception {
+        // Given - Precondition or Setup
+        List<String> emails = List.of("xavidisturb@gmail.com",
+                "ivanattal@gmail.com", "jeandujardin@gmail.com");
+        List<Long> employeeIds = new ArrayList<>();
+
+        // When - Action or the Behavior that we are going to test
+        for (String email : emails) {
+            String creation = mockMvc.perform(post("/api/v1/employees")
+                            .param("async", "true")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Employee.builder()
+                                    .firstName("Xavi")
+                                    .lastName("Disturb")
+                                    .email(email)
+                                    .build())))
+                    // Verify HTTP Status "202 ACCEPTED" in the Response
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.status", is("PENDING")))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            employeeIds.add(objectMapper.readTree(creation).get("id").asLong());
+        }
+
+        // A Duplicate of a Queued Create is Rejected at once
+        mockMvc.perform(post("/api/v1/employees")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Employee.builder()
+                                .firstName("Ivan")
+                                .lastName("Attal")
+                                .email(emails.get(1))
+                                .build())))
+                .andExpect(status().isConflict());
+
+        // Then - Verify the Output
+        // Poll the Status until the Flusher Inserted Each Employee
+        for (Long employeeId : employeeIds) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            int creationStatus;
+
+            do {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+                creationStatus = mockMvc.perform(
+                                get("/api/v1/employees/creations/{id}", employeeId))
+                        .andReturn()
+                        .getResponse()
+                        .getStatus();
+            } while (creationStatus == 200);
+
+            // Verify HTTP Status "303 SEE OTHER", then the Employee under its Id
+            assertThat(creationStatus).isEqualTo(303);
+            mockMvc.perform(get("/api/v1/employees/{id}", employeeId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(employeeId.intValue())));
+        }
+        assertThat(employeeIds).doesNotHaveDuplicates();
+        assertThat(employeeRepository.findAll()).extracting(Employee::getEmail)
+                .containsExactlyInAnyOrderElementsOf(emails);
+    }
+
     // Integration Test for Get All Employees REST API
     @Test
     @DisplayName("Integration Test for Get All Employees REST API")
@@ -137,6 +315,37 @@ public class EmployeeControllerIntegrationTests extends AbstractContainerBaseTes
                 );
     }
 
+    // Integration Test for Get All Employees REST API with "If-None-Match"
+    // The Tag is the Generation of the Table in the DB, so a Write Made by
+    // Another Instance (Simulated by Counting a Relayed Change Directly)
+    // Changes it too
+    @Test
+    @DisplayName("Integration Test for Get All Employees REST API with If-None-Match")
+    void givenWriteOnAnotherInstance_whenGetAllEmployeesIfNoneMatch_thenReturnNewList()
+            throws Exception {
+        // Given - Precondition or Setup
+        String etag = mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        mockMvc.perform(get("/api/v1/employees").header("If-None-Match", etag))
+                // Verify HTTP Status "304 NOT MODIFIED" in the Response
+                .andExpect(status().isNotModified());
+
+        // When - Action or the Behavior that we are going to test
+        transactionTemplate.executeWithoutResult(status ->
+                employeeGenerationRepository.addRelayedChanges(1));
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .header("If-None-Match", etag));
+
+        // Then - Verify the Output
+        response.andExpect(status().isOk());
+        assertThat(response.andReturn().getResponse().getHeader("ETag"))
+                .isNotNull()
+                .isNotEqualTo(etag);
+    }
+
     // Integration Test for Get Employee By Id REST API
     //  Positive Scenario with Valid Employee Id
     @Test
@@ -309,6 +518,170 @@ public class EmployeeControllerIntegrationTests extends AbstractContainerBaseTes
                 .andExpect(status().isNotFound());
     }
 
+    // Integration Test for Update Employee REST API - Single SQL Statement
+    @Test
+    @DisplayName("Integration Test for Update Employee REST API - Single SQL Statement")
+    void givenEmployeeForUpdate_whenUpdateEmployee_thenSendOnlyOneUpdateStatement()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal@gmail.com")
+                .build());
+        String employeeFromRequest = objectMapper.writeValueAsString(Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build());
+        sqlStatistics.reset();
+
+        // When - Action or the Behavior that we are going to test
+        // An Existing Employee, then a Missing One
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", savedEmployee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeFromRequest)
+        );
+        ResultActions missingResponse = mockMvc.perform(
+                put("/api/v1/employees/{id}", savedEmployee.getId() + 1_000)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeFromRequest)
+        );
+
+        // Then - Verify the Output
+        response.andExpect(status().isOk());
+        missingResponse.andExpect(status().isNotFound());
+        // One "UPDATE" Statement per Request, and No "SELECT"; the Update
+        // is Recorded in the Outbox
+        assertThat(employeeShapes()).singleElement().satisfies(shape -> {
+            assertThat(shape.sql()).startsWithIgnoringCase("update employees");
+            assertThat(shape.count()).isEqualTo(2);
+        });
+        assertThat(outboxInsertCount()).isEqualTo(1);
+        assertThat(employeeRepository.findById(savedEmployee.getId())).get()
+                .satisfies(employee -> {
+                    assertThat(employee.getEmail()).isEqualTo("ivanattal.updated@gmail.com");
+                    assertThat(employee.getVersion()).isEqualTo(1L);
+                });
+    }
+
+    // Integration Test for Update and Delete Employee REST API with "If-Match"
+    @Test
+    @DisplayName("Integration Test for Update and Delete Employee REST API with If-Match")
+    void givenETag_whenUpdateAndDeleteEmployeeIfMatch_thenOnlyCurrentVersionIsWritten()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal@gmail.com")
+                .build());
+        String employeeFromRequest = objectMapper.writeValueAsString(Employee.builder()
+                .firstName("Ivan - UPDATED")
+                .lastName("Attal - UPDATED")
+                .email("ivanattal.updated@gmail.com")
+                .build());
+        // The Employee is Cached at Version 0
+        String etag = mockMvc.perform(get("/api/v1/employees/{id}", savedEmployee.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        sqlStatistics.reset();
+
+        // When - Action or the Behavior that we are going to test
+        // Two Editors Update from the Same Version: the Second One Fails
+        ResultActions response = mockMvc.perform(
+                put("/api/v1/employees/{id}", savedEmployee.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeFromRequest)
+        );
+        ResultActions staleResponse = mockMvc.perform(
+                put("/api/v1/employees/{id}", savedEmployee.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeFromRequest)
+        );
+
+        // Then - Verify the Output
+        assertThat(etag).isEqualTo("\"0\"");
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+        staleResponse.andExpect(status().isPreconditionFailed());
+        // Conditional Single-Statement Updates
+        assertThat(employeeShapes())
+                .filteredOn(shape -> shape.sql().toLowerCase().startsWith("update"))
+                .singleElement()
+                .satisfies(shape -> {
+                    assertThat(shape.sql()).containsIgnoringCase("version=?");
+                    assertThat(shape.count()).isEqualTo(2);
+                });
+        // The Cached Employee was Evicted: the Lookup Sees the New Version
+        mockMvc.perform(get("/api/v1/employees/{id}", savedEmployee.getId()))
+                .andExpect(header().string("ETag", "\"1\""));
+        mockMvc.perform(delete("/api/v1/employees/{id}", savedEmployee.getId())
+                        .header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/employees/{id}", savedEmployee.getId())
+                        .header("If-Match", "\"1\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employees/{id}", savedEmployee.getId())
+                        .header("If-Match", "\"1\""))
+                .andExpect(status().isNotFound());
+    }
+
+    // Integration Test for Patch Employee REST API - Changed Columns Only
+    @Test
+    @DisplayName("Integration Test for Patch Employee REST API - Changed Columns Only")
+    void givenMergePatch_whenPatchEmployee_thenUpdateOnlyChangedColumns()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal@gmail.com")
+                .build());
+        sqlStatistics.reset();
+
+        // When - Action or the Behavior that we are going to test
+        // A Patch Changing the Email, then a Patch Changing Nothing
+        ResultActions response = mockMvc.perform(
+                patch("/api/v1/employees/{id}", savedEmployee.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\":\"ivanattal.updated@gmail.com\"}")
+        );
+        ResultActions noOpResponse = mockMvc.perform(
+                patch("/api/v1/employees/{id}", savedEmployee.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"firstName\":\"Ivan\"}")
+        );
+
+        // Then - Verify the Output
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.email", is("ivanattal.updated@gmail.com")));
+        noOpResponse.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+        // One "UPDATE" of the Email and the Version, Guarded by the Version
+        assertThat(employeeShapes())
+                .filteredOn(shape -> shape.sql().toLowerCase().startsWith("update"))
+                .singleElement()
+                .satisfies(shape -> {
+                    assertThat(shape.sql()).containsIgnoringCase("email")
+                            .doesNotContainIgnoringCase("first_name")
+                            .doesNotContainIgnoringCase("last_name");
+                    assertThat(shape.sql()).containsIgnoringCase("version=?");
+                    assertThat(shape.count()).isEqualTo(1);
+                });
+        assertThat(employeeRepository.findById(savedEmployee.getId())).get()
+                .satisfies(employee -> {
+                    assertThat(employee.getFirstName()).isEqualTo("Ivan");
+                    assertThat(employee.getEmail()).isEqualTo("ivanattal.updated@gmail.com");
+                    assertThat(employee.getVersion()).isEqualTo(1L);
+                });
+    }
+
     // Integration Test for Delete Employee REST API
     @Test
     @DisplayName("Integration Test for Delete Employee REST API")
@@ -333,4 +706,66 @@ public class EmployeeControllerIntegrationTests extends AbstractContainerBaseTes
                 // Verify HTTP Status "200 OK" in the Response
                 .andExpect(status().isOk());
     }
+
+    // Integration Test for Delete Employees REST API - Single SQL Statement
+    @Test
+    @DisplayName("Integration Test for Delete Employees REST API - Single SQL Statement")
+    void givenEmployeeIds_whenDeleteEmployees_thenSendOnlyOneDeleteStatement()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee savedEmployee = employeeRepository.save(Employee.builder()
+                .firstName("Ivan")
+                .lastName("Attal")
+                .email("ivanattal@gmail.com")
+                .build());
+        Employee savedEmployee1 = employeeRepository.save(Employee.builder()
+                .firstName("Jean")
+                .lastName("Dujardin")
+                .email("jeandujardin@gmail.com")
+                .build());
+        sqlStatistics.reset();
+
+        // When - Action or the Behavior that we are going to test
+        // Both Employees and a Missing One, then One of them Again
+        ResultActions response = mockMvc.perform(
+                delete("/api/v1/employees").param("ids",
+                        savedEmployee.getId() + "," + savedEmployee1.getId() + ","
+                                + (savedEmployee1.getId() + 1_000))
+        );
+        ResultActions missingResponse = mockMvc.perform(
+                delete("/api/v1/employees/{id}", savedEmployee.getId())
+        );
+
+        // Then - Verify the Output
+        response.andExpect(status().isOk())
+                .andExpect(content().string("2 Employees Deleted Successfully."));
+        missingResponse.andExpect(status().isNotFound());
+        // One "DELETE" Statement per Request, and No "SELECT"; Each Delete
+        // is Recorded in the Outbox first
+        assertThat(employeeShapes()).allSatisfy(shape ->
+                assertThat(shape.sql()).startsWithIgnoringCase("delete from employees"));
+        assertThat(employeeShapes().stream()
+                .mapToLong(SqlStatistics.SqlShape::count)
+                .sum())
+                .isEqualTo(2);
+        assertThat(outboxInsertCount()).isEqualTo(2);
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    // Statements on the "employees" Table, without the Outbox and Generation Statements
+    // (Written by the Service or Run by the Background Relay)
+    private List<SqlStatistics.SqlShape> employeeShapes() {
+        return sqlStatistics.getShapes().stream()
+                .filter(shape -> !shape.sql().toLowerCase().contains("employee_outbox"))
+                .filter(shape -> !shape.sql().toLowerCase().contains("employee_generation"))
+                .toList();
+    }
+
+    private long outboxInsertCount() {
+        return sqlStatistics.getShapes().stream()
+                .filter(shape -> shape.sql().toLowerCase()
+                        .startsWith("insert into employee_outbox"))
+                .mapToLong(SqlStatistics.SqlShape::count)
+                .sum();
+    }
 }
@@ -0,0 +1,172 @@
+package com.dgmf.integration;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.outbox.EmployeeChangeRelay;
+import com.dgmf.outbox.InMemoryEmployeeChangeSink;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The Background Relay is Slowed Down: the Tests Relay the Outbox Themselves
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.employees.outbox.sink=memory",
+                "app.employees.outbox.poll-interval=PT1H"
+        }
+)
+@AutoConfigureMockMvc // To Call REST APIs
+public class EmployeeOutboxIntegrationTests extends AbstractContainerBaseTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private EmployeeChangeRelay employeeChangeRelay;
+    @Autowired
+    private InMemoryEmployeeChangeSink employeeChangeSink;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+        employeeChangeEventRepository.deleteAll();
+        employeeChangeSink.clear();
+    }
+
+    // Integration Test for the Outbox of Create, Update and Delete REST APIs
+    @Test
+    @DisplayName("Integration Test for the Outbox of Create, Update and Delete REST APIs")
+    void givenEmployeeWrites_whenRelayChanges_thenSendOneChangePerWriteInOrder()
+            throws Exception {
+        // Given - Precondition or Setup
+        Employee employee = objectMapper.readValue(mockMvc.perform(post("/api/v1/employees")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Employee.builder()
+                                        .firstName("Xavi")
+                                        .lastName("Disturb")
+                                        .email("xavidisturb@gmail.com")
+                                        .build())))
+                        .andExpect(status().isCreated())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString(),
+                Employee.class);
+        mockMvc.perform(put("/api/v1/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Employee.builder()
+                                .firstName("Xavi")
+                                .lastName("Disturb")
+                                .email("xavi.disturb@gmail.com")
+                                .build())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isOk());
+        // A Rejected Write Records Nothing
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNotFound());
+
+        // When - Action or the Behavior that we are going to test
+        employeeChangeRelay.relayChanges();
+
+        // Then - Verify the Output
+        assertThat(employeeChangeSink.getChanges())
+                .allSatisfy(change ->
+                        assertThat(change.getEmployeeId()).isEqualTo(employee.getId()))
+                .extracting(EmployeeChangeEvent::getType, EmployeeChangeEvent::getVersion,
+                        EmployeeChangeEvent::getEmail)
+                .containsExactly(
+                        tuple(EmployeeChangeEvent.ChangeType.CREATED,
+                                0L, "xavidisturb@gmail.com"),
+                        tuple(EmployeeChangeEvent.ChangeType.UPDATED,
+                                1L, "xavi.disturb@gmail.com"),
+                        tuple(EmployeeChangeEvent.ChangeType.DELETED,
+                                1L, "xavi.disturb@gmail.com")
+                );
+        assertThat(employeeChangeEventRepository.count()).isZero();
+    }
+
+    // Integration Test for Relays Running in Parallel (Several App Nodes)
+    @Test
+    @DisplayName("Integration Test for Relays Running in Parallel")
+    void givenBackloggedOutbox_whenRelaysRunInParallel_thenSendEachChangeOnce()
+            throws Exception {
+        // Given - Precondition or Setup
+        int relays = 4;
+        int employees = 1_000;
+        // One Change Recorded per Created Employee
+        employeeService.saveEmployees(IntStream.range(0, employees)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build())
+                .toList());
+        ExecutorService executorService = Executors.newFixedThreadPool(relays);
+        // To Start All Relays at the Same Time
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> relayRuns = new ArrayList<>();
+
+        // When - Action or the Behavior that we are going to test
+        // Each Relay Drains Batches until it Finds None Left to Claim
+        try {
+            for (int i = 0; i < relays; i++) {
+                relayRuns.add(executorService.submit(() -> {
+                    startSignal.await();
+                    int relayedChanges;
+
+                    do {
+                        relayedChanges = employeeChangeRelay.relayBatch();
+                    } while (relayedChanges > 0);
+
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+
+            for (Future<?> relayRun : relayRuns) {
+                relayRun.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then - Verify the Output
+        assertThat(employeeChangeSink.getChanges())
+                .hasSize(employees)
+                .extracting(EmployeeChangeEvent::getId)
+                .doesNotHaveDuplicates();
+        assertThat(employeeChangeEventRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package com.dgmf.integration;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+// To Disable In-memory H2 Database Support and Use MySQL Database
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// Each Repository Call Runs in its Own Transaction (and Persistence
+// Context), so Repeated Reads Can Only Be Served by the Second-Level Cache
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+// To Count the SQL Statements Sent to the DB
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EmployeeSecondLevelCacheIntegrationTests extends AbstractContainerBaseTest {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAll();
+
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Nolibée")
+                .lastName("Perceval")
+                .email("nolibeeperceval@gmail.com")
+                .build());
+
+        statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    // Integration Test for Find By Id Operation - Second-Level Cache
+    @Test
+    @DisplayName("Integration Test for Find By Id Operation - Second-Level Cache")
+    void givenEmployeeReadOnce_whenFindById_thenSecondReadDoesNoSql() {
+        // Given - Precondition or Setup
+        employeeRepository.findById(employee.getId());
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // When - Action or the Behavior that we are going to test
+        Employee employeeDB = employeeRepository.findById(employee.getId()).get();
+
+        // Then - Verify the Output
+        assertThat(employeeDB.getEmail()).isEqualTo(employee.getEmail());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementCount);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    // Integration Test for Find By Email Operation - Query Cache
+    @Test
+    @DisplayName("Integration Test for Find By Email Operation - Query Cache")
+    void givenEmailQueriedOnce_whenFindEmployeeByEmail_thenSecondQueryDoesNoSql() {
+        // Given - Precondition or Setup
+        employeeRepository.findEmployeeByEmail(employee.getEmail());
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // When - Action or the Behavior that we are going to test
+        Employee employeeDB = employeeRepository
+                .findEmployeeByEmail(employee.getEmail()).get();
+
+        // Then - Verify the Output
+        assertThat(employeeDB.getId()).isEqualTo(employee.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementCount);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    // Integration Test for Custom Query using JPQL - Query Cache
+    @Test
+    @DisplayName("Integration Test for Custom Query using JPQL - Query Cache")
+    void givenNamesQueriedOnce_whenFindByJPQL_thenSecondQueryDoesNoSql() {
+        // Given - Precondition or Setup
+        employeeRepository.findByJPQLNamedParams(
+                employee.getFirstName(),
+                employee.getLastName()
+        );
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // When - Action or the Behavior that we are going to test
+        Employee employeeDB = employeeRepository.findByJPQLNamedParams(
+                employee.getFirstName(),
+                employee.getLastName()
+        );
+
+        // Then - Verify the Output
+        assertThat(employeeDB.getId()).isEqualTo(employee.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementCount);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
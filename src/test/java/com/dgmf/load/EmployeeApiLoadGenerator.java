@@ -0,0 +1,261 @@
+package com.dgmf.load;
+
+import com.dgmf.concurrency.VirtualThreads;
+import lombok.Builder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Open-Model Load Generator for "/api/v1/employees": Requests Start at a
+// Fixed Arrival Rate whatever the Response Times (One Virtual Thread per
+// Request on Java 21+), and Each Latency is Measured from the Intended
+// Start Time, so a Stalled Server Shows Up in the Percentiles instead of
+// Silently Lowering the Load (No Coordinated Omission)
+// Standalone: EmployeeApiLoadGenerator <baseUrl> <requests/s> <duration> [report.json]
+public class EmployeeApiLoadGenerator {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    // Latencies up to 1 Minute, 3 Significant Digits
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    public enum Operation {
+        CREATE, GET_BY_ID, LIST, UPDATE, DELETE
+    }
+
+    @Getter
+    @Builder
+    public static class LoadProfile {
+        private final String baseUrl;
+        @Builder.Default
+        private final double arrivalRatePerSecond = 100;
+        @Builder.Default
+        private final Duration warmup = Duration.ofSeconds(5);
+        @Builder.Default
+        private final Duration duration = Duration.ofSeconds(30);
+        @Builder.Default
+        private final int seedEmployees = 1000;
+        // Relative Weights of the Operations in the Mix
+        @Builder.Default
+        private final Map<Operation, Integer> operationMix = defaultOperationMix();
+    }
+
+    private final LoadProfile profile;
+    private final HttpClient httpClient;
+    private final List<Operation> weightedOperations = new ArrayList<>();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    // Ids of the Employees Known to Exist (Seeded or Created, Not Deleted)
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final AtomicLong nextEmail = new AtomicLong();
+
+    public EmployeeApiLoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        profile.getOperationMix().forEach((operation, weight) ->
+                IntStream.range(0, weight).forEach(i -> weightedOperations.add(operation)));
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(MAX_LATENCY_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.builder()
+                .baseUrl(args[0])
+                .arrivalRatePerSecond(Double.parseDouble(args[1]))
+                .duration(Duration.parse("PT" + args[2]))
+                .build();
+
+        LoadReport report = new EmployeeApiLoadGenerator(profile).run();
+        System.out.println(report);
+
+        if (args.length > 3) {
+            report.write(Path.of(args[3]));
+        }
+    }
+
+    public LoadReport run() throws Exception {
+        seedEmployees();
+
+        // Warmup Latencies are Recorded then Dropped
+        drive(profile.getWarmup());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(count -> count.set(0));
+
+        drive(profile.getDuration());
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) ->
+                histograms.put(operation, recorder.getIntervalHistogram()));
+
+        return LoadReport.of(profile, histograms, errors);
+    }
+
+    // Starts Requests at their Scheduled Times for "duration", then Waits
+    // for the Ones Still in Flight
+    private void drive(Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / profile.getArrivalRatePerSecond());
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        ExecutorService executor = VirtualThreads.isSupported()
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+                : Executors.newCachedThreadPool();
+
+        try {
+            for (long i = 0; i < requests; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long delay = intendedStart - System.nanoTime();
+
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+
+                Operation operation = weightedOperations.get(
+                        ThreadLocalRandom.current().nextInt(weightedOperations.size()));
+                executor.execute(() -> send(operation, intendedStart));
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void send(Operation operation, long intendedStart) {
+        try {
+            Long employeeId = operation == Operation.CREATE ? null : randomEmployeeId();
+            HttpResponse<String> response = httpClient.send(
+                    request(operation, employeeId),
+                    HttpResponse.BodyHandlers.ofString()
+            );
+
+            recorders.get(operation).recordValue(Math.min(MAX_LATENCY_MICROS,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart)));
+
+            if (!isExpected(operation, response.statusCode())) {
+                errors.get(operation).incrementAndGet();
+            } else if (operation == Operation.CREATE) {
+                addEmployeeIds(response.body());
+            } else if (operation == Operation.DELETE) {
+                removeEmployeeId(employeeId);
+            }
+        } catch (Exception e) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    private HttpRequest request(Operation operation, Long employeeId) {
+        String employeesUrl = profile.getBaseUrl() + "/api/v1/employees";
+
+        return switch (operation) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(employeesUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(employeeJson()))
+                    .build();
+            case GET_BY_ID -> HttpRequest.newBuilder(URI.create(employeesUrl + "/" + employeeId))
+                    .build();
+            case LIST -> HttpRequest.newBuilder(URI.create(employeesUrl + "?limit=20&after="
+                            + Base64.getUrlEncoder().withoutPadding()
+                            .encodeToString(Long.toString(employeeId).getBytes())))
+                    .build();
+            case UPDATE -> HttpRequest.newBuilder(URI.create(employeesUrl + "/" + employeeId))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(employeeJson()))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(employeesUrl + "/" + employeeId))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    // Concurrent Deletes Make Some Lookups and Updates Miss: a 404 is an
+    // Expected Outcome, Not an Error
+    private static boolean isExpected(Operation operation, int statusCode) {
+        return switch (operation) {
+            case CREATE -> statusCode == 201;
+            case GET_BY_ID, UPDATE, DELETE -> statusCode == 200 || statusCode == 404;
+            case LIST -> statusCode == 200;
+        };
+    }
+
+    private void seedEmployees() throws Exception {
+        String employees = IntStream.range(0, profile.getSeedEmployees())
+                .mapToObj(i -> employeeJson())
+                .collect(Collectors.joining(",", "[", "]"));
+
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(profile.getBaseUrl() + "/api/v1/employees/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(employees))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+        }
+
+        addEmployeeIds(response.body());
+    }
+
+    private String employeeJson() {
+        long n = nextEmail.incrementAndGet();
+
+        return "{\"firstName\":\"Load" + n + "\",\"lastName\":\"Test" + n
+                + "\",\"email\":\"load" + n + "-" + System.nanoTime() + "@gmail.com\"}";
+    }
+
+    private synchronized Long randomEmployeeId() {
+        return employeeIds.isEmpty()
+                ? 1L
+                : employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+    }
+
+    private synchronized void addEmployeeIds(String responseBody) {
+        Matcher matcher = ID_PATTERN.matcher(responseBody);
+
+        while (matcher.find()) {
+            employeeIds.add(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private synchronized void removeEmployeeId(Long employeeId) {
+        employeeIds.remove(employeeId);
+    }
+
+    private static Map<Operation, Integer> defaultOperationMix() {
+        Map<Operation, Integer> operationMix = new LinkedHashMap<>();
+        operationMix.put(Operation.CREATE, 15);
+        operationMix.put(Operation.GET_BY_ID, 50);
+        operationMix.put(Operation.LIST, 20);
+        operationMix.put(Operation.UPDATE, 10);
+        operationMix.put(Operation.DELETE, 5);
+
+        return operationMix;
+    }
+}
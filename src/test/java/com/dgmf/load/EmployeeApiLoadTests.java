@@ -0,0 +1,98 @@
+package com.dgmf.load;
+
+import com.dgmf.Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Drives the Request Mix against the Application Started Locally on H2,
+// Writes the Report to "target/load/employee-api-report.json" and Fails
+// on Errors or when the Application Falls Behind the Arrival Rate
+// Run with "mvn test -Pload-tests -Dtest=EmployeeApiLoadTests", Options:
+// -Dload.rate=50 -Dload.duration=PT60S -Dload.min-throughput=0.9 (Share
+// of the Arrival Rate)
+// Latency Regressions (Opt-In): Latencies Depend on the Machine, so the
+// Baseline is Recorded on the Machine Running the Check (e.g. Cached by
+// the CI Runner), with -Dload.baseline=<path> -Dload.update-baseline=true,
+// then Compared to with -Dload.baseline=<path> -Dload.tolerance=0.2
+@Tag("load")
+public class EmployeeApiLoadTests {
+    private static final Path REPORT = Path.of("target/load/employee-api-report.json");
+
+    // JUnit Test for Errors, Throughput and Latency Regressions of the Employee REST API
+    @Test
+    @DisplayName("JUnit Test for Errors, Throughput and Latency Regressions of the Employee REST API")
+    void givenRequestMixAtFixedRate_whenLoadEmployeeApi_thenNoErrorsAndNoRegression()
+            throws Exception {
+        // Given - Precondition or Setup
+        double arrivalRate = Double.parseDouble(System.getProperty("load.rate", "50"));
+        double minThroughput = Double.parseDouble(System.getProperty("load.min-throughput", "0.9"));
+        String baselineProperty = System.getProperty("load.baseline");
+        Path baseline = baselineProperty == null ? null : Path.of(baselineProperty);
+        double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.2"));
+        boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+
+        if (updateBaseline) {
+            assertThat(baseline)
+                    .as("Baseline to record (-Dload.baseline=<path>)")
+                    .isNotNull();
+        } else if (baseline != null) {
+            assertThat(baseline)
+                    .as("Load baseline (record it with -Dload.update-baseline=true)")
+                    .exists();
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:employee-api-load",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            // When - Action or the Behavior that we are going to test
+            LoadReport report = new EmployeeApiLoadGenerator(
+                    EmployeeApiLoadGenerator.LoadProfile.builder()
+                            .baseUrl("http://localhost:" + port)
+                            .arrivalRatePerSecond(arrivalRate)
+                            .duration(Duration.parse(
+                                    System.getProperty("load.duration", "PT30S")))
+                            .build()
+            ).run();
+
+            System.out.println(report);
+            report.write(REPORT);
+
+            // Then - Verify the Output
+            assertThat(report.getOperations().get("TOTAL").getErrors()).isZero();
+            assertThat(report.getOperations().get("TOTAL").getThroughputPerSecond())
+                    .isGreaterThanOrEqualTo(arrivalRate * minThroughput);
+
+            if (updateBaseline) {
+                report.write(baseline);
+            } else if (baseline != null) {
+                List<String> regressions = report.regressionsComparedTo(
+                        LoadReport.read(baseline),
+                        tolerance
+                );
+
+                assertThat(regressions).isEmpty();
+            }
+        }
+    }
+}
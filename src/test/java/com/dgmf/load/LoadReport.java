@@ -0,0 +1,169 @@
+package com.dgmf.load;
+
+import com.dgmf.load.EmployeeApiLoadGenerator.LoadProfile;
+import com.dgmf.load.EmployeeApiLoadGenerator.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Throughput and Latency Percentiles (Milliseconds) per Operation and
+// Overall, Stored as JSON so CI Can Compare a Run with a Saved Baseline
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String TOTAL = "TOTAL";
+    // A Percentile is Only Compared if at Least this Many Requests were
+    // Slower than it in Both Runs: with Fewer, it is a Single Outlier (GC
+    // Pause, JIT Compilation) and Does Not Repeat from Run to Run
+    private static final long MIN_TAIL_REQUESTS = 10;
+
+    private double arrivalRatePerSecond;
+    private long durationSeconds;
+    // Per Operation Name, plus "TOTAL"
+    private Map<String, OperationStats> operations = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OperationStats {
+        private long requests;
+        private long errors;
+        private double throughputPerSecond;
+        private double p50Millis;
+        private double p99Millis;
+        private double p999Millis;
+        private double maxMillis;
+
+        static OperationStats of(Histogram histogram, long errors, long durationSeconds) {
+            return OperationStats.builder()
+                    .requests(histogram.getTotalCount())
+                    .errors(errors)
+                    .throughputPerSecond(histogram.getTotalCount() / (double) durationSeconds)
+                    .p50Millis(histogram.getValueAtPercentile(50) / 1000.0)
+                    .p99Millis(histogram.getValueAtPercentile(99) / 1000.0)
+                    .p999Millis(histogram.getValueAtPercentile(99.9) / 1000.0)
+                    .maxMillis(histogram.getMaxValue() / 1000.0)
+                    .build();
+        }
+    }
+
+    static LoadReport of(
+            LoadProfile profile,
+            Map<Operation, Histogram> histograms,
+            Map<Operation, AtomicLong> errors
+    ) {
+        long durationSeconds = Math.max(1, profile.getDuration().toSeconds());
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long operationErrors = errors.get(operation).get();
+
+            operations.put(operation.name(),
+                    OperationStats.of(histogram, operationErrors, durationSeconds));
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+
+        operations.put(TOTAL, OperationStats.of(total, totalErrors, durationSeconds));
+
+        return new LoadReport(profile.getArrivalRatePerSecond(), durationSeconds, operations);
+    }
+
+    public static LoadReport read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    // Percentiles that Grew by More than "tolerance" (0.2 = +20%) Compared
+    // to the Baseline, and Errors where the Baseline Had None
+    // Tail Percentiles are Skipped below "MIN_TAIL_REQUESTS" (e.g. "p999"
+    // under 10000 Requests)
+    public List<String> regressionsComparedTo(LoadReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+
+        baseline.getOperations().forEach((operation, baselineStats) -> {
+            OperationStats stats = operations.get(operation);
+
+            if (stats == null) {
+                return;
+            }
+
+            long requests = Math.min(baselineStats.getRequests(), stats.getRequests());
+
+            checkLatency(regressions, operation, "p50", requests, 50,
+                    baselineStats.getP50Millis(), stats.getP50Millis(), tolerance);
+            checkLatency(regressions, operation, "p99", requests, 99,
+                    baselineStats.getP99Millis(), stats.getP99Millis(), tolerance);
+            checkLatency(regressions, operation, "p999", requests, 99.9,
+                    baselineStats.getP999Millis(), stats.getP999Millis(), tolerance);
+
+            if (baselineStats.getErrors() == 0 && stats.getErrors() > 0) {
+                regressions.add(operation + " errors: " + stats.getErrors());
+            }
+        });
+
+        return regressions;
+    }
+
+    private static void checkLatency(
+            List<String> regressions,
+            String operation,
+            String percentile,
+            long requests,
+            double percentileValue,
+            double baselineMillis,
+            double millis,
+            double tolerance
+    ) {
+        if (requests * (100 - percentileValue) / 100 < MIN_TAIL_REQUESTS) {
+            return;
+        }
+
+        if (millis > baselineMillis * (1 + tolerance)) {
+            regressions.add(String.format("%s %s: %.2f ms (baseline %.2f ms)",
+                    operation, percentile, millis, baselineMillis));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+                "%-10s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+
+        operations.forEach((operation, stats) -> report.append(String.format(
+                "%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, stats.getRequests(), stats.getErrors(),
+                stats.getThroughputPerSecond(), stats.getP50Millis(), stats.getP99Millis(),
+                stats.getP999Millis(), stats.getMaxMillis())));
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,305 @@
+package com.dgmf.load;
+
+import com.dgmf.Application;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Many Editors Update a Few Employees at Once, Each Reading the Employee,
+// Thinking, then Writing it Back with "If-Match": Conflicting Writes Fail
+// with 412 and are Retried from a Fresh Read, so No Update is Lost
+// No Row Lock is Held while an Editor Thinks; Only Writes to the Same Row
+// that Overlap Wait, for the Single-Statement Transaction of the Other
+// One (Lock Waits are Sampled from H2 and Reported)
+// Run with "mvn test -Pload-tests -Dtest=OptimisticConcurrencyLoadTests",
+// Options: -Dload.editors=64 -Dload.duration=PT10S
+@Tag("load")
+public class OptimisticConcurrencyLoadTests {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int HOT_EMPLOYEES = 4;
+    // Upper Bound of the Random Pause between a Read and its Write
+    private static final Duration MAX_THINK_TIME = Duration.ofMillis(20);
+    // Latencies up to 1 Minute, 3 Significant Digits
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    // JUnit Test for Conditional Updates under High Contention
+    @Test
+    @DisplayName("JUnit Test for Conditional Updates under High Contention")
+    void givenEditorsOnFewEmployees_whenUpdateIfMatch_thenNoLostUpdate()
+            throws Exception {
+        // Given - Precondition or Setup
+        int editors = Integer.getInteger("load.editors", 64);
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT10S"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:optimistic-load",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--app.employees.bulkhead.max-wait=30s",
+                        "--logging.level.root=WARN"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/v1/employees";
+            HttpClient httpClient = HttpClient.newHttpClient();
+            List<Long> employeeIds = seedEmployees(httpClient, baseUrl);
+            LockWaitSampler lockWaits = new LockWaitSampler(context.getBean(DataSource.class));
+
+            // When - Action or the Behavior that we are going to test
+            ContentionResult result;
+
+            lockWaits.start();
+            try {
+                result = edit(httpClient, baseUrl, employeeIds, editors, duration);
+            } finally {
+                lockWaits.stop();
+            }
+
+            System.out.println(result);
+            System.out.println(lockWaits);
+
+            // Then - Verify the Output
+            assertThat(result.errors()).isZero();
+            assertThat(result.updates()).isPositive();
+            // Every Successful Update Incremented the Version of its Employee
+            // Exactly Once
+            for (Long employeeId : employeeIds) {
+                assertThat(currentVersion(httpClient, baseUrl, employeeId))
+                        .isEqualTo(result.updatesPerEmployee()
+                                .getOrDefault(employeeId, new AtomicLong())
+                                .get());
+            }
+            assertThat(lockWaits.samples()).isPositive();
+        }
+    }
+
+    private static List<Long> seedEmployees(HttpClient httpClient, String baseUrl) throws Exception {
+        String employees = IntStream.range(0, HOT_EMPLOYEES)
+                .mapToObj(i -> "{\"firstName\":\"First" + i + "\",\"lastName\":\"Last" + i
+                        + "\",\"email\":\"employee" + i + "@gmail.com\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(employees))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        return ID_PATTERN.matcher(response.body()).results()
+                .map(match -> Long.parseLong(match.group(1)))
+                .toList();
+    }
+
+    // Each Editor Reads a Random Hot Employee and Writes it Back with the
+    // Version it Read, until the Deadline
+    private static ContentionResult edit(
+            HttpClient httpClient,
+            String baseUrl,
+            List<Long> employeeIds,
+            int editors,
+            Duration duration
+    ) throws InterruptedException {
+        Recorder updateLatencies = new Recorder(MAX_LATENCY_MICROS, 3);
+        Map<Long, AtomicLong> updatesPerEmployee = new ConcurrentHashMap<>();
+        AtomicLong conflicts = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong nextEmail = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(editors);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int editor = 0; editor < editors; editor++) {
+            Thread editorThread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Long employeeId = employeeIds.get(
+                                ThreadLocalRandom.current().nextInt(employeeIds.size()));
+                        HttpResponse<Void> read = httpClient.send(
+                                HttpRequest.newBuilder(URI.create(baseUrl + "/" + employeeId))
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        String etag = read.headers().firstValue("ETag").orElse(null);
+
+                        if (read.statusCode() != 200 || etag == null) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+
+                        Thread.sleep(ThreadLocalRandom.current().nextLong(
+                                MAX_THINK_TIME.toMillis() + 1));
+
+                        long n = nextEmail.incrementAndGet();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> write = httpClient.send(
+                                HttpRequest.newBuilder(URI.create(baseUrl + "/" + employeeId))
+                                        .header("Content-Type", "application/json")
+                                        .header("If-Match", etag)
+                                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                                "{\"firstName\":\"Edit" + n
+                                                        + "\",\"lastName\":\"Contention\","
+                                                        + "\"email\":\"edit" + n + "@gmail.com\"}"))
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding());
+
+                        updateLatencies.recordValue(Math.min(MAX_LATENCY_MICROS,
+                                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+
+                        switch (write.statusCode()) {
+                            case 200 -> updatesPerEmployee
+                                    .computeIfAbsent(employeeId, id -> new AtomicLong())
+                                    .incrementAndGet();
+                            // Lost the Race: Read Again and Retry
+                            case 412 -> conflicts.incrementAndGet();
+                            default -> errors.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+            editorThread.setDaemon(true);
+            editorThread.start();
+        }
+
+        done.await();
+
+        return new ContentionResult(
+                updatesPerEmployee,
+                conflicts.get(),
+                errors.get(),
+                updateLatencies.getIntervalHistogram()
+        );
+    }
+
+    private static long currentVersion(HttpClient httpClient, String baseUrl, Long employeeId)
+            throws Exception {
+        String etag = httpClient.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/" + employeeId)).build(),
+                        HttpResponse.BodyHandlers.discarding())
+                .headers()
+                .firstValue("ETag")
+                .orElseThrow();
+
+        return Long.parseLong(etag.replace("\"", ""));
+    }
+
+    private record ContentionResult(
+            Map<Long, AtomicLong> updatesPerEmployee,
+            long conflicts,
+            long errors,
+            Histogram updateLatencies
+    ) {
+        long updates() {
+            return updatesPerEmployee.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d updates, %d conflicts (412), %d errors, "
+                            + "PUT p50 %.2f ms, p99 %.2f ms, max %.2f ms",
+                    updates(), conflicts, errors,
+                    updateLatencies.getValueAtPercentile(50) / 1000.0,
+                    updateLatencies.getValueAtPercentile(99) / 1000.0,
+                    updateLatencies.getMaxValue() / 1000.0);
+        }
+    }
+
+    // Samples the H2 Sessions Blocked on a Lock Held by Another Session,
+    // Every Millisecond, on its Own Connection: the Share of Samples with a
+    // Blocked Session, and the Longest Wait Seen
+    private static class LockWaitSampler {
+        private final DataSource dataSource;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong samples = new AtomicLong();
+        private final AtomicLong blockedSamples = new AtomicLong();
+        private final AtomicLong maxWaitMillis = new AtomicLong();
+        private Thread samplerThread;
+
+        LockWaitSampler(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void start() {
+            running.set(true);
+            samplerThread = new Thread(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement()) {
+                    while (running.get()) {
+                        try (ResultSet blocked = statement.executeQuery(
+                                "SELECT COUNT(*), COALESCE(MAX(DATEDIFF('MILLISECOND', "
+                                        + "EXECUTING_STATEMENT_START, CURRENT_TIMESTAMP)), 0) "
+                                        + "FROM INFORMATION_SCHEMA.SESSIONS "
+                                        + "WHERE BLOCKER_ID IS NOT NULL")) {
+                            blocked.next();
+                            samples.incrementAndGet();
+
+                            if (blocked.getLong(1) > 0) {
+                                blockedSamples.incrementAndGet();
+                                maxWaitMillis.accumulateAndGet(blocked.getLong(2), Math::max);
+                            }
+                        }
+
+                        Thread.sleep(1);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            samplerThread.setDaemon(true);
+            samplerThread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running.set(false);
+            samplerThread.join();
+        }
+
+        long samples() {
+            return samples.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("lock waits: %d of %d samples (%.1f%%), longest %d ms",
+                    blockedSamples.get(), samples.get(),
+                    100.0 * blockedSamples.get() / Math.max(1, samples.get()),
+                    maxWaitMillis.get());
+        }
+    }
+}
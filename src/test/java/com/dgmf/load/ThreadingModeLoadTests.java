@@ -0,0 +1,214 @@
+package com.dgmf.load;
+
+import com.dgmf.Application;
+import com.dgmf.concurrency.VirtualThreads;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Compares the Throughput and the p99 Latency of the "platform" and
+// "virtual" Thread Modes on H2 with an Injected Database Latency
+// Half the Requests Hit the Database (Keyset Page), Half the Cache
+// (Employee by Id): with Platform Threads, Requests Blocked on the
+// Database Hold Every Tomcat Thread and Delay the Cached Ones
+// Run with "mvn test -Pload-tests"; on Java 21+ (Profile "java21") a
+// Missing Virtual Thread Support Fails the Test, Elsewhere it Skips the
+// "virtual" Mode
+@Tag("load")
+public class ThreadingModeLoadTests {
+    private static final Duration DB_LATENCY = Duration.ofMillis(50);
+    private static final int CONCURRENT_CLIENTS = 400;
+    private static final Duration LOAD_DURATION = Duration.ofSeconds(15);
+    // Run-to-Run Noise Allowed when Comparing the Modes
+    private static final double TOLERANCE = 0.10;
+
+    // JUnit Test for Throughput and p99 of Both Thread Modes
+    @Test
+    @DisplayName("JUnit Test for Throughput and p99 of Both Thread Modes")
+    void givenDatabaseLatency_whenLoadBothThreadModes_thenCompareThroughputAndP99()
+            throws Exception {
+        // When - Action or the Behavior that we are going to test
+        LoadResult platform = runLoad("platform");
+        System.out.println("platform: " + platform);
+
+        // Then - Verify the Output
+        assertThat(platform.errors()).isZero();
+
+        if (Boolean.getBoolean("load.virtual-threads.required")) {
+            assertThat(VirtualThreads.isSupported())
+                    .as("Virtual threads are supported on " + Runtime.version())
+                    .isTrue();
+        } else {
+            assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21+");
+        }
+
+        // When - Action or the Behavior that we are going to test
+        LoadResult virtual = runLoad("virtual");
+        System.out.println("virtual:  " + virtual);
+
+        // Then - Verify the Output
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.throughput())
+                .isGreaterThanOrEqualTo(platform.throughput() * (1 - TOLERANCE));
+        assertThat(virtual.p99().toNanos())
+                .isLessThanOrEqualTo((long) (platform.p99().toNanos() * (1 + TOLERANCE)));
+    }
+
+    private static LoadResult runLoad(String threadMode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                Application.class, DatabaseLatencyConfig.class)
+                // Command Line Arguments Override "application.properties"
+                .run(
+                        "--server.port=0",
+                        "--app.threads.mode=" + threadMode,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + threadMode,
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--app.employees.bulkhead.max-concurrent-calls=20",
+                        "--app.employees.bulkhead.max-wait=30s"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/v1/employees";
+            HttpClient httpClient = HttpClient.newHttpClient();
+
+            seedEmployees(httpClient, baseUrl);
+
+            return load(httpClient, baseUrl);
+        }
+    }
+
+    private static void seedEmployees(HttpClient httpClient, String baseUrl) throws Exception {
+        String employees = IntStream.range(0, 1000)
+                .mapToObj(i -> "{\"firstName\":\"First" + i + "\",\"lastName\":\"Last" + i
+                        + "\",\"email\":\"employee" + i + "@gmail.com\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(employees))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static LoadResult load(HttpClient httpClient, String baseUrl) throws Exception {
+        HttpRequest pageRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?limit=20")).build();
+        HttpRequest cachedRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/1")).build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CONCURRENT_CLIENTS);
+        long deadline = System.nanoTime() + LOAD_DURATION.toNanos();
+
+        for (int client = 0; client < CONCURRENT_CLIENTS; client++) {
+            HttpRequest request = client % 2 == 0 ? pageRequest : cachedRequest;
+
+            Thread clientThread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+
+                        latencies.add(System.nanoTime() - start);
+
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+            clientThread.setDaemon(true);
+            clientThread.start();
+        }
+
+        done.await();
+
+        List<Long> sortedLatencies = new ArrayList<>(latencies);
+        Collections.sort(sortedLatencies);
+        long p99 = sortedLatencies.get((int) Math.ceil(sortedLatencies.size() * 0.99) - 1);
+
+        return new LoadResult(
+                sortedLatencies.size() / (double) LOAD_DURATION.toSeconds(),
+                Duration.ofNanos(p99),
+                errors.get()
+        );
+    }
+
+    private record LoadResult(double throughput, Duration p99, int errors) {
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p99 %d ms, %d errors",
+                    throughput, p99.toMillis(), errors);
+        }
+    }
+
+    // Every Connection is Handed Out "DB_LATENCY" Late, as if Each
+    // Transaction Spent that Long Waiting on the Database
+    @TestConfiguration
+    static class DatabaseLatencyConfig {
+        @Bean
+        static BeanPostProcessor databaseLatencyInjector() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? new LatencyInjectingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    static class LatencyInjectingDataSource extends DelegatingDataSource {
+        LatencyInjectingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+
+            try {
+                Thread.sleep(DB_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return connection;
+        }
+    }
+}
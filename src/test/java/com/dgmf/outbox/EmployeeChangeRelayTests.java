@@ -0,0 +1,142 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeChangeRelayTests {
+    @Mock
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @Mock
+    private EmployeeGenerationRepository employeeGenerationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private InMemoryEmployeeChangeSink employeeChangeSink;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeChangeRelay employeeChangeRelay;
+
+    @BeforeEach
+    public void setup() {
+        employeeChangeSink = new InMemoryEmployeeChangeSink();
+        meterRegistry = new SimpleMeterRegistry();
+        // Batches of 2 Changes, at Most 3 Batches per Run
+        employeeChangeRelay = new EmployeeChangeRelay(
+                employeeChangeEventRepository,
+                employeeGenerationRepository,
+                employeeChangeSink,
+                new TransactionTemplate(transactionManager),
+                2,
+                3,
+                meterRegistry
+        );
+    }
+
+    // JUnit Test for Relay Changes Method
+    @Test
+    @DisplayName("JUnit Test for Relay Changes Method")
+    void givenBackloggedOutbox_whenRelayChanges_thenSendAndDeleteBatchesUntilDrained() {
+        // Given - Precondition or Setup
+        // A Full Batch, then a Partial One: the Outbox is Drained
+        given(employeeChangeEventRepository.claimChanges(PageRequest.ofSize(2)))
+                .willReturn(changes(1, 2), changes(3));
+
+        // When - Action or the Behavior that we are going to test
+        employeeChangeRelay.relayChanges();
+
+        // Then - Verify the Output
+        assertThat(employeeChangeSink.getChanges())
+                .extracting(EmployeeChangeEvent::getId)
+                .containsExactly(1L, 2L, 3L);
+        verify(employeeChangeEventRepository, times(1)).deleteChanges(List.of(1L, 2L));
+        verify(employeeChangeEventRepository, times(1)).deleteChanges(List.of(3L));
+        // The Generation Counts the Changes Relayed, with their Deletion
+        verify(employeeGenerationRepository, times(1)).addRelayedChanges(2);
+        verify(employeeGenerationRepository, times(1)).addRelayedChanges(1);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.get("employees.outbox.relayed").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    // JUnit Test for Relay Changes Method (Bounded Run)
+    @Test
+    @DisplayName("JUnit Test for Relay Changes Method (Bounded Run)")
+    void givenLargeBacklog_whenRelayChanges_thenStopAfterMaxBatches() {
+        // Given - Precondition or Setup
+        given(employeeChangeEventRepository.claimChanges(PageRequest.ofSize(2)))
+                .willReturn(changes(1, 2), changes(3, 4), changes(5, 6), changes(7, 8));
+
+        // When - Action or the Behavior that we are going to test
+        employeeChangeRelay.relayChanges();
+
+        // Then - Verify the Output
+        assertThat(employeeChangeSink.getChanges()).hasSize(6);
+        verify(employeeChangeEventRepository, times(3)).claimChanges(any());
+    }
+
+    // JUnit Test for Relay Changes Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Relay Changes Method - Negative Scenario")
+    void givenFailingSink_whenRelayChanges_thenKeepChangesInOutbox() {
+        // Given - Precondition or Setup
+        EmployeeChangeSink failingSink = mock(EmployeeChangeSink.class);
+        willThrow(new IllegalStateException("Sink unavailable"))
+                .given(failingSink).send(any());
+        employeeChangeRelay = new EmployeeChangeRelay(
+                employeeChangeEventRepository,
+                employeeGenerationRepository,
+                failingSink,
+                new TransactionTemplate(transactionManager),
+                2,
+                3,
+                meterRegistry
+        );
+        given(employeeChangeEventRepository.claimChanges(PageRequest.ofSize(2)))
+                .willReturn(changes(1, 2));
+
+        // When - Action or the Behavior that we are going to test
+        employeeChangeRelay.relayChanges();
+
+        // Then - Verify the Output
+        // The Batch is Rolled Back, to be Claimed Again by the Next Run
+        verify(employeeChangeEventRepository, never()).deleteChanges(any());
+        verify(employeeGenerationRepository, never()).addRelayedChanges(anyLong());
+        verify(transactionManager, times(1)).rollback(any());
+        assertThat(meterRegistry.get("employees.outbox.failures").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static List<EmployeeChangeEvent> changes(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> EmployeeChangeEvent.builder()
+                        .id(id)
+                        .employeeId(id)
+                        .type(EmployeeChangeEvent.ChangeType.CREATED)
+                        .version(0L)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.dgmf.outbox;
+
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileEmployeeChangeSinkTests {
+    @TempDir
+    private Path directory;
+
+    // JUnit Test for Send Method
+    @Test
+    @DisplayName("JUnit Test for Send Method")
+    void givenTwoBatches_whenSend_thenAppendOneJsonLinePerChange() throws Exception {
+        // Given - Precondition or Setup
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Path file = directory.resolve("outbox").resolve("employee-changes.ndjson");
+        FileEmployeeChangeSink employeeChangeSink = new FileEmployeeChangeSink(file, objectMapper);
+
+        // When - Action or the Behavior that we are going to test
+        employeeChangeSink.send(List.of(change(1L, EmployeeChangeEvent.ChangeType.CREATED)));
+        employeeChangeSink.send(List.of(change(2L, EmployeeChangeEvent.ChangeType.UPDATED),
+                change(3L, EmployeeChangeEvent.ChangeType.DELETED)));
+
+        // Then - Verify the Output
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        JsonNode lastChange = objectMapper.readTree(lines.get(2));
+        assertThat(lastChange.get("id").asLong()).isEqualTo(3L);
+        assertThat(lastChange.get("type").asText()).isEqualTo("DELETED");
+        assertThat(lastChange.get("email").asText()).isEqualTo("johndoe@gmail.com");
+    }
+
+    private static EmployeeChangeEvent change(Long id, EmployeeChangeEvent.ChangeType type) {
+        return EmployeeChangeEvent.builder()
+                .id(id)
+                .employeeId(1L)
+                .type(type)
+                .version(id)
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@gmail.com")
+                .occurredAt(Instant.parse("2023-09-01T10:00:00Z"))
+                .build();
+    }
+}
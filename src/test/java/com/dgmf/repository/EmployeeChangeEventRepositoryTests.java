@@ -0,0 +1,88 @@
+package com.dgmf.repository;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.entity.EmployeeChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest // Use In-memory H2 Database
+public class EmployeeChangeEventRepositoryTests {
+    @Autowired
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Nolibée")
+                .lastName("Perceval")
+                .email("nolibeeperceval@gmail.com")
+                .build());
+    }
+
+    // JUnit Test for Record Changes Operation (Set-Based Outbox Insert)
+    @Test
+    @DisplayName("JUnit Test for Record Changes Operation")
+    void givenEmployeeIds_whenRecordChanges_thenCopyExistingEmployeesIntoOutbox() {
+        // Given - Precondition or Setup
+        employee.setEmail("nolibee.perceval@gmail.com");
+        employeeRepository.flush();
+
+        // When - Action or the Behavior that we are going to test
+        // An Existing Employee and a Missing One
+        int recordedChanges = employeeChangeEventRepository.recordChanges(
+                List.of(employee.getId(), employee.getId() + 1_000),
+                EmployeeChangeEvent.ChangeType.UPDATED
+        );
+
+        // Then - Verify the Output
+        assertThat(recordedChanges).isEqualTo(1);
+        assertThat(employeeChangeEventRepository.findAll()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getEmployeeId()).isEqualTo(employee.getId());
+                    assertThat(change.getType())
+                            .isEqualTo(EmployeeChangeEvent.ChangeType.UPDATED);
+                    assertThat(change.getEmail()).isEqualTo("nolibee.perceval@gmail.com");
+                    assertThat(change.getVersion()).isEqualTo(1L);
+                    assertThat(change.getOccurredAt()).isNotNull();
+                });
+    }
+
+    // JUnit Test for Claim Changes Operation
+    @Test
+    @DisplayName("JUnit Test for Claim Changes Operation")
+    void givenRecordedChanges_whenClaimChanges_thenReturnOldestChangesFirst() {
+        // Given - Precondition or Setup
+        employeeChangeEventRepository.recordChanges(List.of(employee.getId()),
+                EmployeeChangeEvent.ChangeType.CREATED);
+        employeeChangeEventRepository.recordChanges(List.of(employee.getId()),
+                EmployeeChangeEvent.ChangeType.UPDATED);
+        employeeChangeEventRepository.recordChanges(List.of(employee.getId()),
+                EmployeeChangeEvent.ChangeType.DELETED);
+
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeChangeEvent> claimedChanges =
+                employeeChangeEventRepository.claimChanges(PageRequest.ofSize(2));
+        int deletedChanges = employeeChangeEventRepository.deleteChanges(
+                claimedChanges.stream().map(EmployeeChangeEvent::getId).toList());
+
+        // Then - Verify the Output
+        assertThat(claimedChanges).extracting(EmployeeChangeEvent::getType)
+                .containsExactly(EmployeeChangeEvent.ChangeType.CREATED,
+                        EmployeeChangeEvent.ChangeType.UPDATED);
+        assertThat(deletedChanges).isEqualTo(2);
+        assertThat(employeeChangeEventRepository.findAll()).singleElement()
+                .extracting(EmployeeChangeEvent::getType)
+                .isEqualTo(EmployeeChangeEvent.ChangeType.DELETED);
+    }
+}
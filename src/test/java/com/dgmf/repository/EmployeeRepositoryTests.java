@@ -1,15 +1,22 @@
 package com.dgmf.repository;
 
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.dgmf.integration.AbstractContainerBaseTest;
+import jakarta.persistence.Cache;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +24,8 @@ import java.util.Optional;
 public class EmployeeRepositoryTests {
     @Autowired
     private EmployeeRepository employeeRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
     private Employee employee;
 
     @BeforeEach
@@ -78,6 +87,69 @@ public class EmployeeRepositoryTests {
         assertThat(employeesList.size()).isEqualTo(2);
     }
 
+    // JUnit Test for Existing Emails Query
+    @Test
+    @DisplayName("JUnit Test for Existing Emails Query")
+    void givenEmployee_whenFindExistingEmails_thenReturnsOnlyKnownEmails() {
+        // Given - Precondition or Setup
+        employeeRepository.save(employee);
+
+        // When - Action or the Behavior that we are going to test
+        List<String> existingEmails = employeeRepository.findExistingEmails(
+                List.of(employee.getEmail(), "unknown@gmail.com")
+        );
+
+        // Then - Verify the Output
+        assertThat(existingEmails).containsExactly(employee.getEmail());
+    }
+
+    // JUnit Test for Find Employee Views After Operation (DTO Projection)
+    @Test
+    @DisplayName("JUnit Test for Find Employee Views After operation")
+    void givenEmployeesList_whenFindEmployeeViewsAfter_thenReturnsUnmanagedViews() {
+        // Given - Precondition or Setup
+        Employee employee2 = Employee.builder()
+                .firstName("Jean")
+                .lastName("Dupont")
+                .email("jeandupont@gmail.com")
+                .build();
+
+        employeeRepository.save(employee);
+        employeeRepository.save(employee2);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeView> employeeViews = employeeRepository.findEmployeeViewsAfter(
+                employee.getId(),
+                PageRequest.ofSize(10)
+        );
+
+        // Then - Verify the Output
+        // No Entity was Loaded into the Persistence Context
+        assertThat(employeeViews).containsExactly(EmployeeView.of(employee2));
+        assertThat(testEntityManager.getEntityManager()
+                .unwrap(Session.class)
+                .getStatistics()
+                .getEntityCount()).isZero();
+    }
+
+    // JUnit Test for Find Employee Views Operation with a Sparse Fieldset
+    @Test
+    @DisplayName("JUnit Test for Find Employee Views operation with a Sparse Fieldset")
+    void givenFields_whenFindEmployeeViews_thenReturnsOnlyRequestedFields() {
+        // Given - Precondition or Setup
+        employeeRepository.save(employee);
+
+        // When - Action or the Behavior that we are going to test
+        List<EmployeeView> employeeViews = employeeRepository.findEmployeeViews(
+                EnumSet.of(EmployeeField.ID, EmployeeField.EMAIL));
+
+        // Then - Verify the Output
+        assertThat(employeeViews).containsExactly(new EmployeeView(
+                employee.getId(), null, null, "nolibeeperceval@gmail.com"));
+    }
+
     // JUnit Test for Get Employee By Id Operation
     @Test
     @DisplayName("JUnit Test for Get Employee By Id operation")
@@ -172,6 +244,29 @@ public class EmployeeRepositoryTests {
         assertThat(optionalEmployee).isEmpty();
     }
 
+    // JUnit Test for Delete Employees Operation (Single DELETE Statement)
+    @Test
+    @DisplayName("JUnit Test for Delete Employees Operation")
+    void givenEmployeesList_whenDeleteEmployees_thenReturnNumberOfDeletedEmployees() {
+        // Given - Precondition or Setup
+        Employee employee1 = Employee.builder()
+                .firstName("Jean")
+                .lastName("Dujardin")
+                .email("jeandujardin@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // When - Action or the Behavior that we are going to test
+        // Two Existing Ids and a Missing One
+        int deletedEmployees = employeeRepository.deleteEmployees(
+                List.of(employee.getId(), employee1.getId(), employee1.getId() + 1_000));
+
+        // Then - Verify the Output
+        assertThat(deletedEmployees).isEqualTo(2);
+        assertThat(employeeRepository.count()).isZero();
+    }
+
     // JUnit Test for Custom Query using JPQL with Index Params
     @Test
     @DisplayName("JUnit Test for Custom Query using JPQL with Index Params")
@@ -277,4 +372,99 @@ public class EmployeeRepositoryTests {
         assertThat(savedEmployee.getFirstName()).isEqualTo("Nolibée");
         assertThat(savedEmployee.getLastName()).isEqualTo("Perceval");
     }
+
+    // JUnit Test for Reserve Employee Id Operation
+    @Test
+    @DisplayName("JUnit Test for Reserve Employee Id Operation")
+    void givenReservedIds_whenSave_thenNeverGenerateReservedIds() {
+        // Given - Precondition or Setup
+        Long reservedId = employeeRepository.reserveEmployeeId();
+        Long otherReservedId = employeeRepository.reserveEmployeeId();
+
+        // When - Action or the Behavior that we are going to test
+        Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+
+        // Then - Verify the Output
+        assertThat(otherReservedId).isNotEqualTo(reservedId);
+        assertThat(savedEmployee.getId()).isNotIn(reservedId, otherReservedId);
+    }
+
+    // JUnit Test for Save Operation with a Reserved Id
+    @Test
+    @DisplayName("JUnit Test for Save Operation with a Reserved Id")
+    void givenReservedId_whenSave_thenInsertWithReservedId() {
+        // Given - Precondition or Setup
+        Long reservedId = employeeRepository.reserveEmployeeId();
+        employee.setReservedId(reservedId);
+
+        // When - Action or the Behavior that we are going to test
+        Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+
+        // Then - Verify the Output
+        assertThat(savedEmployee.getId()).isEqualTo(reservedId);
+        assertThat(employeeRepository.findById(reservedId)).isPresent();
+    }
+
+    // JUnit Test for Seed Employee Ids Operation
+    @Test
+    @DisplayName("JUnit Test for Seed Employee Ids Operation")
+    void givenIdentityInsertedEmployee_whenSeedEmployeeIds_thenSequenceIsPastIt() {
+        // Given - Precondition or Setup
+        // A Row Inserted with an IDENTITY Id, Far Past the Sequence
+        testEntityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO employees (id, first_name, last_name, email, version) " +
+                        "VALUES (1000000, 'Nolibée', 'Perceval', 'nolibee@gmail.com', 0)"
+        ).executeUpdate();
+
+        // When - Action or the Behavior that we are going to test
+        boolean seeded = employeeRepository.seedEmployeeIds();
+        boolean seededAgain = employeeRepository.seedEmployeeIds();
+
+        // Then - Verify the Output
+        // The Next Block Handed Out, [next_val - 49, next_val], is Past the Row
+        Number nextValue = (Number) testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT next_val FROM employees_seq")
+                .getSingleResult();
+        assertThat(seeded).isTrue();
+        assertThat(seededAgain).isFalse();
+        assertThat(nextValue.longValue()).isEqualTo(1000050L);
+    }
+
+    // JUnit Test for Update Employee Operation and the Second-Level Cache
+    @Test
+    @DisplayName("JUnit Test for Update Employee Operation and the Second-Level Cache")
+    void givenCachedEmployees_whenUpdateEmployee_thenOnlyUpdatedEmployeeIsEvicted() {
+        // Given - Precondition or Setup
+        // Rows Inserted without the Persistence Context: Hibernate Does Not
+        // Cache Employees Persisted in the Current Transaction
+        testEntityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO employees (id, first_name, last_name, email, version) " +
+                        "VALUES (1000001, 'Nolibée', 'Perceval', 'nolibee@gmail.com', 0), " +
+                        "(1000002, 'Jean', 'Dupont', 'jeandupont@gmail.com', 0)"
+        ).executeUpdate();
+        // Loads the Employees into the Second-Level Cache
+        employeeRepository.findById(1000001L);
+        employeeRepository.findById(1000002L);
+        testEntityManager.clear();
+        Cache cache = testEntityManager.getEntityManager().getEntityManagerFactory().getCache();
+
+        // When - Action or the Behavior that we are going to test
+        int updatedEmployees = employeeRepository.updateEmployee(1000001L,
+                "Nolibé", "Perceval", "nolibee@gmail.com");
+        // The Statement Evicts Nothing: the Updated Employee is Still Cached
+        boolean cachedAfterUpdate = cache.contains(Employee.class, 1000001L);
+        employeeRepository.evictEmployees(List.of(1000001L));
+        testEntityManager.clear();
+
+        // Then - Verify the Output
+        // Only the Updated Employee was Evicted, and its New State is Re-Read
+        assertThat(updatedEmployees).isEqualTo(1);
+        assertThat(cachedAfterUpdate).isTrue();
+        assertThat(cache.contains(Employee.class, 1000001L)).isFalse();
+        assertThat(cache.contains(Employee.class, 1000002L)).isTrue();
+        assertThat(employeeRepository.findById(1000001L))
+                .get()
+                .extracting(Employee::getFirstName, Employee::getVersion)
+                .containsExactly("Nolibé", 1L);
+    }
 }
@@ -0,0 +1,215 @@
+package com.dgmf.service;
+
+import com.dgmf.config.CacheConfig;
+import com.dgmf.entity.Employee;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.index.EmployeeSearchIndex;
+import com.dgmf.index.EmployeeSuggestIndex;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Only the Service and the Cache Infrastructure are Loaded: the Cache
+// Annotations of "EmployeeServiceImpl" Need a Spring Proxy to Apply
+@SpringBootTest(classes = {EmployeeServiceImpl.class, CacheConfig.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+public class EmployeeServiceCacheTests {
+    @MockBean
+    private EmployeeRepository employeeRepository;
+    @MockBean
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @MockBean
+    private EmployeeGenerationRepository employeeGenerationRepository;
+    @MockBean
+    private EntityManager entityManager;
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private EmailBloomFilter emailBloomFilter;
+    @MockBean
+    private EmployeeSearchIndex employeeSearchIndex;
+    @MockBean
+    private EmployeeSuggestIndex employeeSuggestIndex;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private CacheManager cacheManager;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        // Each Test Starts with an Empty Cache
+        cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@gmail.com")
+                .build();
+    }
+
+    // JUnit Test for Get Employee By Id Method - Cache Hit
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id Method - Cache Hit")
+    void givenCachedEmployee_whenGetEmployeeById_thenRepositoryIsCalledOnce() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // Then - Verify the Output
+        assertThat(cachedEmployee).contains(employee);
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    // JUnit Test for Get Employee By Id Method - Negative Result Cached
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id Method - Negative Result Cached")
+    void givenMissingEmployee_whenGetEmployeeById_thenEmptyResultIsCached() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(2L)).willReturn(Optional.empty());
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.getEmployeeById(2L);
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(2L);
+
+        // Then - Verify the Output
+        assertThat(cachedEmployee).isEmpty();
+        verify(employeeRepository, times(1)).findById(2L);
+    }
+
+    // JUnit Test for Update Employee Method - Cache Invalidated
+    // The Single-Statement Update does Not Know the New Row Version, so the
+    // Cached Employee is Evicted Rather than Replaced
+    @Test
+    @DisplayName("JUnit Test for Update Employee Method - Cache Invalidated")
+    void givenCachedEmployee_whenUpdateEmployee_thenCacheIsInvalidated() {
+        // Given - Precondition or Setup
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Jonatan")
+                .lastName("Doe")
+                .email("jonatandoe@gmail.com")
+                .version(1L)
+                .build();
+        given(employeeRepository.findById(1L))
+                .willReturn(Optional.of(employee), Optional.of(updatedEmployee));
+        given(employeeRepository.updateEmployee(1L, "Jonatan", "Doe", "jonatandoe@gmail.com"))
+                .willReturn(1);
+        employeeService.getEmployeeById(1L);
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.updateEmployee(Employee.builder()
+                .id(1L)
+                .firstName("Jonatan")
+                .lastName("Doe")
+                .email("jonatandoe@gmail.com")
+                .build());
+        Optional<Employee> cachedEmployee = employeeService.getEmployeeById(1L);
+
+        // Then - Verify the Output
+        assertThat(cachedEmployee).get()
+                .extracting(Employee::getFirstName)
+                .isEqualTo("Jonatan");
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+
+    // JUnit Test for Delete Employee Method - Cache Invalidated
+    @Test
+    @DisplayName("JUnit Test for Delete Employee Method - Cache Invalidated")
+    void givenCachedEmployee_whenDeleteEmployee_thenCacheIsInvalidated() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(1L))
+                .willReturn(Optional.of(employee), Optional.empty());
+        given(employeeRepository.deleteEmployees(List.of(1L))).willReturn(1);
+        employeeService.getEmployeeById(1L);
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.deleteEmployee(1L);
+        Optional<Employee> deletedEmployee = employeeService.getEmployeeById(1L);
+
+        // Then - Verify the Output
+        assertThat(deletedEmployee).isEmpty();
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+
+    // JUnit Test for Save Employees Method - Only New Ids Evicted
+    @Test
+    @DisplayName("JUnit Test for Save Employees Method - Only New Ids Evicted")
+    void givenCachedEmployees_whenSaveEmployees_thenOnlyNewIdsAreEvicted() {
+        // Given - Precondition or Setup
+        Employee newEmployee = Employee.builder()
+                .firstName("Mark")
+                .lastName("Irish")
+                .email("markirish@gmail.com")
+                .build();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findById(2L))
+                .willReturn(Optional.empty(), Optional.of(newEmployee));
+        // The Id is Generated when Persisted
+        willAnswer(invocation -> {
+            invocation.<Employee>getArgument(0).setId(2L);
+            return null;
+        }).given(entityManager).persist(newEmployee);
+        employeeService.getEmployeeById(1L);
+        // Cached as Missing before the Insert
+        employeeService.getEmployeeById(2L);
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.saveEmployees(List.of(newEmployee));
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> savedEmployee = employeeService.getEmployeeById(2L);
+
+        // Then - Verify the Output
+        assertThat(savedEmployee).contains(newEmployee);
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(2)).findById(2L);
+    }
+
+    // JUnit Test for Delete Employees Method - Only Deleted Ids Evicted
+    @Test
+    @DisplayName("JUnit Test for Delete Employees Method - Only Deleted Ids Evicted")
+    void givenCachedEmployees_whenDeleteEmployees_thenOnlyDeletedIdsAreEvicted() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+        given(employeeRepository.findById(2L))
+                .willReturn(Optional.of(employee), Optional.empty());
+        given(employeeRepository.deleteEmployees(List.of(2L))).willReturn(1);
+        employeeService.getEmployeeById(1L);
+        employeeService.getEmployeeById(2L);
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.deleteEmployees(List.of(2L));
+        employeeService.getEmployeeById(1L);
+        Optional<Employee> deletedEmployee = employeeService.getEmployeeById(2L);
+
+        // Then - Verify the Output
+        assertThat(deletedEmployee).isEmpty();
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(2)).findById(2L);
+    }
+}
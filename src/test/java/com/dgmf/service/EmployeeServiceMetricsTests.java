@@ -0,0 +1,110 @@
+package com.dgmf.service;
+
+import com.dgmf.config.MetricsConfig;
+import com.dgmf.entity.Employee;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.index.EmployeeSearchIndex;
+import com.dgmf.index.EmployeeSuggestIndex;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
+import com.dgmf.repository.EmployeeRepository;
+import com.dgmf.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+// Only the Service and the "@Timed" Infrastructure are Loaded: the Timer
+// Annotation of "EmployeeServiceImpl" Needs a Spring Proxy to Apply
+@SpringBootTest(classes = {
+        EmployeeServiceImpl.class,
+        MetricsConfig.class,
+        SimpleMeterRegistry.class
+})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+public class EmployeeServiceMetricsTests {
+    @MockBean
+    private EmployeeRepository employeeRepository;
+    @MockBean
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @MockBean
+    private EmployeeGenerationRepository employeeGenerationRepository;
+    @MockBean
+    private EntityManager entityManager;
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private CacheManager cacheManager;
+    @MockBean
+    private EmailBloomFilter emailBloomFilter;
+    @MockBean
+    private EmployeeSearchIndex employeeSearchIndex;
+    @MockBean
+    private EmployeeSuggestIndex employeeSuggestIndex;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // JUnit Test for Get Employee By Id Method Timer
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id Method Timer")
+    void givenEmployeeId_whenGetEmployeeById_thenTimerIsRecorded() {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@gmail.com")
+                .build();
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.getEmployeeById(1L);
+
+        // Then - Verify the Output
+        Timer timer = meterRegistry.find("employees.service")
+                .tag("method", "getEmployeeById")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    // JUnit Test for Delete Employee Method Timer - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Delete Employee Method Timer - Negative Scenario")
+    void givenRepositoryFailure_whenDeleteEmployee_thenTimerIsTaggedWithException() {
+        // Given - Precondition or Setup
+        given(employeeRepository.deleteEmployees(List.of(1L)))
+                .willThrow(new IllegalStateException("DB down"));
+
+        // When - Action or the Behavior that we are going to test
+        assertThatThrownBy(() -> employeeService.deleteEmployee(1L))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then - Verify the Output
+        assertThat(meterRegistry.find("employees.service")
+                .tag("method", "deleteEmployee")
+                .tag("exception", "IllegalStateException")
+                .timer())
+                .isNotNull();
+    }
+}
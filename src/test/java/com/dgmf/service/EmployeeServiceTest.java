@@ -1,33 +1,80 @@
 package com.dgmf.service;
 
+import com.dgmf.config.EmployeeProperties;
+import com.dgmf.dto.EmployeeField;
+import com.dgmf.dto.EmployeePage;
+import com.dgmf.dto.EmployeeView;
 import com.dgmf.entity.Employee;
-import com.dgmf.exception.ResourceNotFoundException;
+import com.dgmf.entity.EmployeeChangeEvent;
+import com.dgmf.exception.PreconditionFailedException;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.exception.ServiceUnavailableException;
+import com.dgmf.index.EmailBloomFilter;
+import com.dgmf.index.EmployeeSearchIndex;
+import com.dgmf.index.EmployeeSuggestIndex;
+import com.dgmf.repository.EmployeeChangeEventRepository;
+import com.dgmf.repository.EmployeeGenerationRepository;
 import com.dgmf.repository.EmployeeRepository;
 import com.dgmf.service.impl.EmployeeServiceImpl;
 // import org.assertj.core.api.Assertions;
 import static org.assertj.core.api.Assertions.assertThat;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @ExtendWith(MockitoExtension.class)
 public class EmployeeServiceTest {
     @Mock // Mock "EmployeeRepository"
     private EmployeeRepository employeeRepository;
+    @Mock // Mock "EmployeeChangeEventRepository"
+    private EmployeeChangeEventRepository employeeChangeEventRepository;
+    @Mock // Mock "EmployeeGenerationRepository"
+    private EmployeeGenerationRepository employeeGenerationRepository;
+    @Mock // Mock "EntityManager"
+    private EntityManager entityManager;
+    @Mock // Mock "PlatformTransactionManager"
+    private PlatformTransactionManager transactionManager;
+    @Mock // Mock "CacheManager"
+    private CacheManager cacheManager;
+    @Mock // Mock "EmailBloomFilter"
+    private EmailBloomFilter emailBloomFilter;
+    @Mock // Mock "EmployeeSearchIndex"
+    private EmployeeSearchIndex employeeSearchIndex;
+    @Mock // Mock "EmployeeSuggestIndex"
+    private EmployeeSuggestIndex employeeSuggestIndex;
+    @Spy // Default "app.employees.*" Settings
+    private EmployeeProperties employeeProperties = new EmployeeProperties();
     @InjectMocks // Inject "EmployeeRepository" in "EmployeeService"
     private EmployeeServiceImpl employeeService;
     private Employee employee;
@@ -52,14 +99,14 @@ public class EmployeeServiceTest {
         /* Given - Precondition or Setup */
         // Condition met by the "setup()" method above
 
-        // To Stub (to Mock) "findEmployeeByEmail()" Method
-        // of "EmployeeRepository" (Static Import)
-        given(employeeRepository.findEmployeeByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
-
-        // To Stub (to Mock) "save()" Method of "EmployeeRepository" (Static Import)
-        given(employeeRepository.save(employee))
-                .willReturn(employee);
+        // To Stub (to Mock) "saveAndFlush()" Method of "EmployeeRepository"
+        // to Generate the Id as the DB Would (Static Import)
+        given(employeeRepository.saveAndFlush(employee))
+                .willAnswer(invocation -> {
+                    Employee savedEmployee = invocation.getArgument(0);
+                    savedEmployee.setId(1L);
+                    return savedEmployee;
+                });
 
         // Custom Outputs
         System.out.println(employeeRepository);
@@ -74,6 +121,80 @@ public class EmployeeServiceTest {
         /* Then - Verify the Output */
         // Assertions.assertThat(saveEmployee).isNotNull();
         assertThat(saveEmployee).isNotNull();
+        // The Creation is Recorded in the Outbox
+        verify(employeeChangeEventRepository, times(1)).recordChanges(
+                List.of(1L), EmployeeChangeEvent.ChangeType.CREATED);
+    }
+
+    // JUnit Test for Save Employee Method with an Id in the Request
+    @Test
+    @DisplayName("JUnit Test for Save Employee Method with an Id in the Request")
+    void givenEmployeeWithId_whenSaveEmployee_thenIdIsGenerated() {
+        /* Given - Precondition or Setup */
+        // The Employee from the "setup()" Method Carries the Id 1
+        Employee savedEmployee = Employee.builder()
+                .id(2L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@gmail.com")
+                .build();
+        given(employeeRepository.saveAndFlush(any(Employee.class)))
+                .willReturn(savedEmployee);
+
+        /* When - Action or the Behavior that we are going to test */
+        employeeService.saveEmployee(employee);
+
+        /* Then - Verify the Output */
+        // The Id from the Request is Cleared, so the Employee is Inserted
+        // with a Generated Id instead of Merged into an Existing Row
+        verify(employeeRepository).saveAndFlush(argThat(
+                requestedEmployee -> requestedEmployee.getId() == null));
+    }
+
+    // JUnit Test for Get Employees Generation Method after a Write
+    @Test
+    @DisplayName("JUnit Test for Get Employees Generation Method after a Write")
+    void givenSavedEmployee_whenGetEmployeesGeneration_thenReturnNewGeneration() {
+        // Given - Precondition or Setup
+        // The Generation is Shared by All Instances, in the DB: the Change
+        // Recorded in the Outbox by the Write Counts in it
+        given(employeeRepository.saveAndFlush(employee))
+                .willReturn(Employee.builder().id(1L).email("johndoe@gmail.com").build());
+        given(employeeGenerationRepository.findGeneration())
+                .willReturn(Optional.of(41L), Optional.of(42L));
+        String generationBefore = employeeService.getEmployeesGeneration().orElseThrow();
+        employeeService.saveEmployee(employee);
+
+        // When - Action or the Behavior that we are going to test
+        String generationAfter = employeeService.getEmployeesGeneration().orElseThrow();
+
+        // Then - Verify the Output
+        assertThat(generationBefore).isEqualTo("41");
+        assertThat(generationAfter).isEqualTo("42");
+        // The Write Does Not Lock the Generation Row (Only the Relay Updates it)
+        verify(employeeGenerationRepository, never()).addRelayedChanges(anyLong());
+    }
+
+    // JUnit Test for Get Employees Generation Method with Replica Routing
+    @Test
+    @DisplayName("JUnit Test for Get Employees Generation Method with Replica Routing")
+    void givenNewGenerationAndReplicas_whenGetEmployeesGeneration_thenReturnItOnceReplicated()
+            throws InterruptedException {
+        // Given - Precondition or Setup
+        // A Generation Written by Another Instance
+        ReflectionTestUtils.setField(employeeService, "replicaRouting", true);
+        ReflectionTestUtils.setField(employeeService, "maxReplicaLag", Duration.ofMillis(50));
+        given(employeeGenerationRepository.findGeneration()).willReturn(Optional.of(42L));
+
+        // When - Action or the Behavior that we are going to test
+        Optional<String> generationJustWritten = employeeService.getEmployeesGeneration();
+        Thread.sleep(60);
+        Optional<String> generationReplicated = employeeService.getEmployeesGeneration();
+
+        // Then - Verify the Output
+        // No Tag while the Replicas May Still Serve the Previous Generation
+        assertThat(generationJustWritten).isEmpty();
+        assertThat(generationReplicated).contains("42");
     }
 
     // JUnit Test for Save Employee Method which throws Exception
@@ -83,15 +204,17 @@ public class EmployeeServiceTest {
         /* Given - Precondition or Setup */
         // Condition met by the "setup()" method above
 
-        // To Stub (to Mock) "findEmployeeByEmail()" Method
-        // of "EmployeeRepository" (Static Import)
-        given(employeeRepository.findEmployeeByEmail(employee.getEmail()))
-                .willReturn(Optional.of(employee)); // Return Employee Object
-
-        // Because of Exception which stop the Process, this Stubbing is unnecessary
-        // To Stub (to Mock) "save()" Method of "EmployeeRepository" (Static Import)
-        /*given(employeeRepository.save(employee))
-                .willReturn(employee);*/
+        // To Stub (to Mock) "saveAndFlush()" Method of "EmployeeRepository"
+        // to Fail as the Unique Index on "email" Would (Static Import)
+        given(employeeRepository.saveAndFlush(employee))
+                .willThrow(new DataIntegrityViolationException(
+                        "Duplicate entry",
+                        new ConstraintViolationException(
+                                "Duplicate entry",
+                                null,
+                                "employees." + Employee.EMAIL_UNIQUE_CONSTRAINT
+                        )
+                ));
 
         // Custom Outputs
         System.out.println(employeeRepository);
@@ -99,15 +222,127 @@ public class EmployeeServiceTest {
 
         /* When - Action or the Behavior that we are going to test */
         org.junit.jupiter.api.Assertions.assertThrows(
-                ResourceNotFoundException.class,
+                ResourceAlreadyExistsException.class,
                 () -> employeeService.saveEmployee(employee)
             );
 
         /* Then - Verify the Output */
-        // Verifying that, after throwing "ResourceNotFoundException",
-        // "employeeRepository.save(employee)" was never called into
+        // Verifying that no Pre-Check SELECT was Issued by the
         // "saveEmployee()" Method of the "EmployeeServiceImpl" Class
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).findEmployeeByEmail(any());
+    }
+
+    // JUnit Test for Save Employees Method (Batch Insert)
+    @Test
+    @DisplayName("JUnit Test for Save Employees Method")
+    void givenEmployeesList_whenSaveEmployees_thenPersistInBatches() {
+        /* Given - Precondition or Setup */
+        Employee employee2 = Employee.builder()
+                .firstName("Mark")
+                .lastName("Irish")
+                .email("markirish@gmail.com")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Jean")
+                .lastName("Dupont")
+                .email("jeandupont@gmail.com")
+                .build();
+        employeeProperties.setBatchSize(2);
+
+        // Emails the Bloom Filter Cannot Rule Out are Checked in One Query
+        given(emailBloomFilter.mightContain(anyString())).willReturn(true);
+        given(employeeRepository.findExistingEmails(any()))
+                .willReturn(Collections.emptyList());
+
+        /* When - Action or the Behavior that we are going to test */
+        List<Employee> savedEmployees = employeeService
+                .saveEmployees(List.of(employee, employee2, employee3));
+
+        /* Then - Verify the Output */
+        assertThat(savedEmployees).hasSize(3);
+        verify(employeeRepository, times(1)).findExistingEmails(any());
+        verify(entityManager, times(3)).persist(any(Employee.class));
+        // One Flush after the First Full Batch of 2 Employees, then One
+        // for the Remaining Employee
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(1)).clear();
+        // The Creations are Recorded in the Outbox One Batch of Ids at a Time
+        verify(employeeChangeEventRepository, times(2)).recordChanges(
+                any(), eq(EmployeeChangeEvent.ChangeType.CREATED));
+    }
+
+    // JUnit Test for Save Employees Method with Only New Emails
+    @Test
+    @DisplayName("JUnit Test for Save Employees Method with Only New Emails")
+    void givenEmailsAbsentFromBloomFilter_whenSaveEmployees_thenSkipEmailQuery() {
+        /* Given - Precondition or Setup */
+        employeeProperties.setBatchSize(2);
+        given(emailBloomFilter.mightContain(employee.getEmail())).willReturn(false);
+
+        /* When - Action or the Behavior that we are going to test */
+        employeeService.saveEmployees(List.of(employee));
+
+        /* Then - Verify the Output */
+        verify(employeeRepository, never()).findExistingEmails(any());
+        verify(entityManager, times(1)).persist(employee);
+        verify(emailBloomFilter, times(1)).put(employee.getEmail());
+    }
+
+    // JUnit Test for Save Reserved Employees Method (Write-Behind Flush)
+    @Test
+    @DisplayName("JUnit Test for Save Reserved Employees Method")
+    void givenEmployeesWithReservedIds_whenSaveReservedEmployees_thenKeepReservedIds() {
+        /* Given - Precondition or Setup */
+        Employee reservedEmployee = Employee.builder()
+                .reservedId(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("johndoe@gmail.com")
+                .build();
+        Employee reservedEmployee2 = Employee.builder()
+                .reservedId(2L)
+                .firstName("Mark")
+                .lastName("Irish")
+                .email("markirish@gmail.com")
+                .build();
+        employeeProperties.setBatchSize(2);
+        // To Stub (to Mock) "persist()" to Run the Generator as Hibernate
+        // Would: it Hands Out the Reserved Id
+        willAnswer(invocation -> {
+            Employee persistedEmployee = invocation.getArgument(0);
+            persistedEmployee.setId(persistedEmployee.getReservedId());
+            return null;
+        }).given(entityManager).persist(any(Employee.class));
+
+        /* When - Action or the Behavior that we are going to test */
+        List<Employee> savedEmployees = employeeService
+                .saveReservedEmployees(List.of(reservedEmployee, reservedEmployee2));
+
+        /* Then - Verify the Output */
+        assertThat(savedEmployees).extracting(Employee::getId).containsExactly(1L, 2L);
+        verify(entityManager, times(1)).persist(reservedEmployee);
+        verify(entityManager, times(1)).persist(reservedEmployee2);
+        verify(employeeChangeEventRepository, times(1)).recordChanges(
+                List.of(1L, 2L), EmployeeChangeEvent.ChangeType.CREATED);
+    }
+
+    // JUnit Test for Save Employees Method which throws Exception
+    @Test
+    @DisplayName("JUnit Test for Save Employees Method which throws Exception")
+    void givenExistingEmail_whenSaveEmployees_thenThrowsException() {
+        /* Given - Precondition or Setup */
+        given(emailBloomFilter.mightContain(employee.getEmail())).willReturn(true);
+        given(employeeRepository.findExistingEmails(any()))
+                .willReturn(List.of(employee.getEmail()));
+
+        /* When - Action or the Behavior that we are going to test */
+        org.junit.jupiter.api.Assertions.assertThrows(
+                ResourceAlreadyExistsException.class,
+                () -> employeeService.saveEmployees(List.of(employee))
+        );
+
+        /* Then - Verify the Output */
+        verify(entityManager, never()).persist(any(Employee.class));
     }
 
     // JUnit Test for Get All Employees Method - Positive Scenario
@@ -123,11 +358,11 @@ public class EmployeeServiceTest {
                 .email("markirish@gmail.com")
                 .build();
 
-        given(employeeRepository.findAll())
-                .willReturn(List.of(employee, employee2));
+        given(employeeRepository.findAllEmployeeViews())
+                .willReturn(List.of(EmployeeView.of(employee), EmployeeView.of(employee2)));
 
         // When - Action or the Behavior that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeView> employeeList = employeeService.getAllEmployees();
 
         // Then - Verify the Output
         /*Assertions.assertThat(employeeList).isNotNull();
@@ -149,11 +384,11 @@ public class EmployeeServiceTest {
                 .email("markirish@gmail.com")
                 .build();
 
-        given(employeeRepository.findAll())
+        given(employeeRepository.findAllEmployeeViews())
                 .willReturn(Collections.emptyList());
 
         // When - Action or the Behavior that we are going to test
-        List<Employee> employeeList = employeeService.getAllEmployees();
+        List<EmployeeView> employeeList = employeeService.getAllEmployees();
 
         // Then - Verify the Output
         /*Assertions.assertThat(employeeList).isEmpty();
@@ -162,6 +397,49 @@ public class EmployeeServiceTest {
         assertThat(employeeList.size()).isEqualTo(0);
     }
 
+    // JUnit Test for Get Employees After Method (Keyset Pagination)
+    @Test
+    @DisplayName("JUnit Test for Get Employees After Method")
+    void givenMoreEmployeesThanLimit_whenGetEmployeesAfter_thenReturnPageWithCursor() {
+        // Given - Precondition or Setup
+        Employee employee2 = Employee.builder()
+                .id(2L)
+                .firstName("Mark")
+                .lastName("Irish")
+                .email("markirish@gmail.com")
+                .build();
+
+        // One Extra Row is Requested to Detect the Next Page
+        given(employeeRepository.findEmployeeViewsAfter(0L, PageRequest.ofSize(2)))
+                .willReturn(List.of(EmployeeView.of(employee), EmployeeView.of(employee2)));
+
+        // When - Action or the Behavior that we are going to test
+        EmployeePage employeePage = employeeService.getEmployeesAfter(null, 1);
+
+        // Then - Verify the Output
+        assertThat(employeePage.getContent()).containsExactly(EmployeeView.of(employee));
+        assertThat(EmployeePage.decodeCursor(employeePage.getNextCursor()))
+                .isEqualTo(employee.getId());
+    }
+
+    // JUnit Test for Export Employees Method
+    @Test
+    @DisplayName("JUnit Test for Export Employees Method")
+    void givenEmployeeViewsStream_whenExportEmployees_thenConsumeEachEmployee() {
+        // Given - Precondition or Setup
+        given(employeeRepository.streamAllEmployeeViews())
+                .willReturn(Stream.of(EmployeeView.of(employee)));
+        List<EmployeeView> exportedEmployees = new ArrayList<>();
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.exportEmployees(exportedEmployees::add);
+
+        // Then - Verify the Output
+        // Projections are Not Managed: Nothing to Detach
+        assertThat(exportedEmployees).containsExactly(EmployeeView.of(employee));
+        verifyNoInteractions(entityManager);
+    }
+
     // JUnit Test for Get Employee By Id Method
     @Test
     @DisplayName("JUnit Test for Get Employee By Id Method")
@@ -178,47 +456,343 @@ public class EmployeeServiceTest {
         assertThat(savedEmployee).isNotNull();
     }
 
+    // JUnit Test for Get Employee By Id Method just after an Update
+    @Test
+    @DisplayName("JUnit Test for Get Employee By Id Method just after an Update")
+    void givenReplicasAndUpdatedEmployee_whenGetEmployeeById_thenReadPrimary() {
+        // Given - Precondition or Setup
+        ReflectionTestUtils.setField(employeeService, "replicaRouting", true);
+        ReflectionTestUtils.setField(employeeService, "maxReplicaLag", Duration.ofMinutes(1));
+        given(employeeRepository.updateEmployee(employee.getId(), employee.getFirstName(),
+                employee.getLastName(), employee.getEmail())).willReturn(1);
+        given(employeeRepository.findById(any())).willReturn(Optional.of(employee));
+        employeeService.updateEmployee(employee);
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.getEmployeeById(employee.getId());
+        employeeService.getEmployeeById(2L);
+
+        // Then - Verify the Output
+        // The Updated Employee is Read in a Read-Write Transaction (on the
+        // Primary), Any Other in a Read-Only One (on a Replica)
+        ArgumentCaptor<TransactionDefinition> definitions =
+                ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues())
+                .extracting(TransactionDefinition::isReadOnly)
+                .containsExactly(false, true);
+    }
+
     // JUnit Test for Update Employee Method
     @Test
     @DisplayName("JUnit Test for Update Employee Method")
     void givenEmployeeObject_whenUpdateEmployee_thenReturnUpdatedEmployee() {
         // Given - Precondition or Setup
-        // To Stub JpaRepository Repository "save()" Method and Configure the
-        // Response for this Method
-        given(employeeRepository.save(employee)).willReturn(employee);
         // Update Employee
         employee.setFirstName("Jonatan");
         employee.setEmail("jonatandoe@gmail.com");
+        // To Stub the Single-Statement "updateEmployee()" Repository Method:
+        // One Row Updated
+        given(employeeRepository.updateEmployee(employee.getId(), "Jonatan",
+                employee.getLastName(), "jonatandoe@gmail.com")).willReturn(1);
 
         // When - Action or the Behavior that we are going to test
-        Employee updatedemployee = employeeService.updateEmployee(employee);
+        Employee updatedemployee = employeeService.updateEmployee(employee).get();
 
         // Then - Verify the Output
         assertThat(updatedemployee.getFirstName())
                 .isEqualTo("Jonatan");
+        verify(employeeSearchIndex, times(1)).put(eq(new EmployeeView(employee.getId(),
+                "Jonatan", employee.getLastName(), "jonatandoe@gmail.com")), anyLong());
         assertThat(updatedemployee.getEmail())
                 .isEqualTo("jonatandoe@gmail.com");
+        // The Employee is Neither Read nor Merged
+        verify(employeeRepository, never()).findById(any());
+        verify(employeeRepository, never()).save(any());
+        verify(employeeChangeEventRepository, times(1)).recordChanges(
+                List.of(employee.getId()), EmployeeChangeEvent.ChangeType.UPDATED);
+    }
+
+    // JUnit Test for Update Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Update Employee Method - Negative Scenario")
+    void givenUnknownEmployee_whenUpdateEmployee_thenReturnEmpty() {
+        // Given - Precondition or Setup
+        // To Stub the Single-Statement "updateEmployee()" Repository Method:
+        // No Row Updated
+        given(employeeRepository.updateEmployee(employee.getId(), employee.getFirstName(),
+                employee.getLastName(), employee.getEmail())).willReturn(0);
+
+        // When - Action or the Behavior that we are going to test
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(employee);
+
+        // Then - Verify the Output
+        assertThat(updatedEmployee).isEmpty();
+        verify(employeeSearchIndex, never()).put(any(), anyLong());
+        verify(employeeSuggestIndex, never()).put(any(), anyLong());
+        verify(employeeChangeEventRepository, never()).recordChanges(any(), any());
+    }
+
+    // JUnit Test for Conditional Update Employee Method
+    @Test
+    @DisplayName("JUnit Test for Conditional Update Employee Method")
+    void givenCurrentVersion_whenUpdateEmployeeIfMatch_thenReturnNextVersion() {
+        // Given - Precondition or Setup
+        // To Stub the Conditional "updateEmployeeAtVersion()" Repository
+        // Method: One Row Updated
+        given(employeeRepository.updateEmployeeAtVersion(employee.getId(), 2L,
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(1);
+
+        // When - Action or the Behavior that we are going to test
+        Employee updatedEmployee = employeeService.updateEmployee(employee, Set.of(2L)).get();
+
+        // Then - Verify the Output
+        assertThat(updatedEmployee.getVersion()).isEqualTo(3L);
+        verify(employeeRepository, never()).existsById(any());
+    }
+
+    // JUnit Test for Conditional Update Employee Method - Several Versions
+    @Test
+    @DisplayName("JUnit Test for Conditional Update Employee Method - Several Versions")
+    void givenSeveralVersions_whenUpdateEmployeeIfMatch_thenReturnNextOfMatchedVersion() {
+        // Given - Precondition or Setup
+        // To Stub the Conditional "updateEmployeeAtVersion()" Repository
+        // Method: Only Version 2 Matches the Row
+        given(employeeRepository.updateEmployeeAtVersion(employee.getId(), 1L,
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(0);
+        given(employeeRepository.updateEmployeeAtVersion(employee.getId(), 2L,
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(1);
+
+        // When - Action or the Behavior that we are going to test
+        Employee updatedEmployee = employeeService.updateEmployee(employee,
+                new LinkedHashSet<>(List.of(1L, 2L, 3L))).get();
+
+        // Then - Verify the Output
+        assertThat(updatedEmployee.getVersion()).isEqualTo(3L);
+        // Nothing is Tried after the Matching Version
+        verify(employeeRepository, never()).updateEmployeeAtVersion(eq(employee.getId()),
+                eq(3L), any(), any(), any());
+        verify(employeeRepository, never()).existsById(any());
+    }
+
+    // JUnit Test for Conditional Update Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Conditional Update Employee Method - Negative Scenario")
+    void givenStaleVersion_whenUpdateEmployeeIfMatch_thenThrowsPreconditionFailedException() {
+        // Given - Precondition or Setup
+        // To Stub the Conditional "updateEmployeeAtVersion()" Repository
+        // Method: No Row Updated, but the Employee Exists
+        given(employeeRepository.updateEmployeeAtVersion(employee.getId(), 1L,
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(0);
+        given(employeeRepository.existsById(employee.getId())).willReturn(true);
+
+        // When - Action or the Behavior that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(PreconditionFailedException.class,
+                () -> employeeService.updateEmployee(employee, Set.of(1L)));
+
+        // Then - Verify the Output
+        verify(employeeSearchIndex, never()).put(any(), anyLong());
+        verify(employeeSuggestIndex, never()).put(any(), anyLong());
+    }
+
+    // JUnit Test for Conditional Update Employee Method - Unknown Employee
+    @Test
+    @DisplayName("JUnit Test for Conditional Update Employee Method - Unknown Employee")
+    void givenUnknownEmployee_whenUpdateEmployeeIfMatch_thenReturnEmpty() {
+        // Given - Precondition or Setup
+        given(employeeRepository.updateEmployeeAtVersion(employee.getId(), 1L,
+                employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(0);
+        given(employeeRepository.existsById(employee.getId())).willReturn(false);
+
+        // When - Action or the Behavior that we are going to test
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(employee,
+                Set.of(1L));
+
+        // Then - Verify the Output
+        assertThat(updatedEmployee).isEmpty();
+    }
+
+    // JUnit Test for Patch Employee Method
+    @Test
+    @DisplayName("JUnit Test for Patch Employee Method")
+    void givenMergePatch_whenPatchEmployee_thenFlushOnlyTheChangedEmployee() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(employee.getId()))
+                .willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        Employee patchedEmployee = employeeService.patchEmployee(employee.getId(),
+                Map.of(EmployeeField.EMAIL, "jonatandoe@gmail.com")).get();
+
+        // Then - Verify the Output
+        assertThat(patchedEmployee.getEmail()).isEqualTo("jonatandoe@gmail.com");
+        assertThat(patchedEmployee.getFirstName()).isEqualTo("John");
+        verify(entityManager, times(1)).flush();
+        verify(employeeSearchIndex, times(1)).put(eq(EmployeeView.of(patchedEmployee)), anyLong());
+        verify(employeeSuggestIndex, times(1)).put(eq(EmployeeView.of(patchedEmployee)), anyLong());
+    }
+
+    // JUnit Test for Patch Employee Method with a Patch Changing Nothing
+    @Test
+    @DisplayName("JUnit Test for Patch Employee Method with a No-Op Patch")
+    void givenNoOpMergePatch_whenPatchEmployee_thenWriteNothing() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(employee.getId()))
+                .willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        Optional<Employee> patchedEmployee = employeeService.patchEmployee(
+                employee.getId(), Map.of(EmployeeField.FIRST_NAME, "John"));
+
+        // Then - Verify the Output
+        assertThat(patchedEmployee).contains(employee);
+        verify(entityManager, never()).flush();
+        verify(employeeSearchIndex, never()).put(any(), anyLong());
+        verify(employeeSuggestIndex, never()).put(any(), anyLong());
+    }
+
+    // JUnit Test for Conditional Patch Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Conditional Patch Employee Method - Negative Scenario")
+    void givenStaleVersion_whenPatchEmployeeIfMatch_thenThrowsPreconditionFailedException() {
+        // Given - Precondition or Setup
+        employee.setVersion(2L);
+        given(employeeRepository.findById(employee.getId()))
+                .willReturn(Optional.of(employee));
+
+        // When - Action or the Behavior that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(PreconditionFailedException.class,
+                () -> employeeService.patchEmployee(employee.getId(), Set.of(1L),
+                        Map.of(EmployeeField.EMAIL, "jonatandoe@gmail.com")));
+
+        // Then - Verify the Output
+        assertThat(employee.getEmail()).isEqualTo("johndoe@gmail.com");
+        verify(entityManager, never()).flush();
+    }
+
+    // JUnit Test for Patch Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Patch Employee Method - Negative Scenario")
+    void givenUnknownEmployee_whenPatchEmployee_thenReturnEmpty() {
+        // Given - Precondition or Setup
+        given(employeeRepository.findById(employee.getId()))
+                .willReturn(Optional.empty());
+
+        // When - Action or the Behavior that we are going to test
+        Optional<Employee> patchedEmployee = employeeService.patchEmployee(
+                employee.getId(), Map.of(EmployeeField.FIRST_NAME, "Jonatan"));
+
+        // Then - Verify the Output
+        assertThat(patchedEmployee).isEmpty();
+        verify(entityManager, never()).flush();
     }
 
     // JUnit Test for Delete Employee By Id Method
-    // Remind that the Return Type of "deleteById()" JpaRepository
-    // Method is "void" (Nothing)
     @Test
     @DisplayName("JUnit Test for Delete Employee By Id Method")
-    void givenEmployeeId_whenDeleteEmployeeById_thenReturnNothing() {
+    void givenEmployeeId_whenDeleteEmployeeById_thenReturnTrue() {
+        // Given - Precondition or Setup
+        Long employeeId = 1L;
+
+        // To Stub the Single-Statement "deleteEmployees()" Repository Method:
+        // One Row Deleted
+        given(employeeRepository.deleteEmployees(List.of(employeeId))).willReturn(1);
+
+        // When - Action or the Behavior that we are going to test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        // Then - Verify the Output
+        assertThat(deleted).isTrue();
+        // The Employee is Not Read before Being Deleted
+        verify(employeeRepository, never()).findById(any());
+        verify(employeeRepository, never()).deleteById(any());
+        verify(employeeSearchIndex, times(1)).remove(eq(employeeId), anyLong());
+        verify(employeeSuggestIndex, times(1)).remove(eq(employeeId), anyLong());
+    }
+
+    // JUnit Test for Delete Employee By Id Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Delete Employee By Id Method - Negative Scenario")
+    void givenUnknownEmployeeId_whenDeleteEmployeeById_thenReturnFalse() {
         // Given - Precondition or Setup
         Long employeeId = 1L;
 
-        // To Stub JpaRepository Repository "deleteById()" Method and Configure
-        // the Response for this Method
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        // To Stub the Single-Statement "deleteEmployees()" Repository Method:
+        // No Row Deleted
+        given(employeeRepository.deleteEmployees(List.of(employeeId))).willReturn(0);
 
         // When - Action or the Behavior that we are going to test
-        employeeService.deleteEmployee(employeeId);
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        // Then - Verify the Output
+        assertThat(deleted).isFalse();
+        verify(employeeSearchIndex, never()).remove(any(), anyLong());
+        verify(employeeSuggestIndex, never()).remove(any(), anyLong());
+    }
+
+    // JUnit Test for Conditional Delete Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Conditional Delete Employee Method - Negative Scenario")
+    void givenStaleVersion_whenDeleteEmployeeIfMatch_thenThrowsPreconditionFailedException() {
+        // Given - Precondition or Setup
+        Long employeeId = 1L;
+        // To Stub the Conditional "deleteEmployeeAtVersion()" Repository
+        // Method: No Row Deleted, but the Employee Exists
+        given(employeeRepository.deleteEmployeeAtVersion(employeeId, 1L)).willReturn(0);
+        given(employeeRepository.existsById(employeeId)).willReturn(true);
+
+        // When - Action or the Behavior that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(PreconditionFailedException.class,
+                () -> employeeService.deleteEmployee(employeeId, Set.of(1L)));
+
+        // Then - Verify the Output
+        verify(employeeSearchIndex, never()).remove(any(), anyLong());
+        verify(employeeSuggestIndex, never()).remove(any(), anyLong());
+    }
+
+    // JUnit Test for Delete Employees Method
+    @Test
+    @DisplayName("JUnit Test for Delete Employees Method")
+    void givenEmployeeIds_whenDeleteEmployees_thenReturnNumberOfDeletedEmployees() {
+        // Given - Precondition or Setup
+        List<Long> employeeIds = List.of(1L, 2L, 3L);
+
+        // To Stub the Single-Statement "deleteEmployees()" Repository Method:
+        // One of the Employees does Not Exist
+        given(employeeRepository.deleteEmployees(employeeIds)).willReturn(2);
+
+        // When - Action or the Behavior that we are going to test
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
+
+        // Then - Verify the Output
+        assertThat(deletedEmployees).isEqualTo(2);
+        verify(employeeRepository, times(1)).deleteEmployees(employeeIds);
+        // Recorded before the Delete, Only for the Employees Still Found
+        verify(employeeChangeEventRepository, times(1)).recordChanges(
+                employeeIds, EmployeeChangeEvent.ChangeType.DELETED);
+        verify(employeeSearchIndex, times(3)).remove(any(), anyLong());
+        verify(employeeSuggestIndex, times(3)).remove(any(), anyLong());
+    }
+
+    // JUnit Test for Search Employees Method before the Index is Loaded
+    @Test
+    @DisplayName("JUnit Test for Search Employees Method before the Index is Loaded")
+    void givenSearchIndexNotLoaded_whenSearchEmployees_thenThrowsException() {
+        // Given - Precondition or Setup
+        given(employeeSearchIndex.isLoaded()).willReturn(false);
+
+        // When - Action or the Behavior that we are going to test
+        org.junit.jupiter.api.Assertions.assertThrows(
+                ServiceUnavailableException.class,
+                () -> employeeService.searchEmployees("john", 0, 20)
+        );
 
         // Then - Verify the Output
-        // Checks that the Method has been called at least 1 time
-        verify(employeeRepository, times(1))
-                .deleteById(employeeId);
+        verify(employeeSearchIndex, never()).search(anyString(), anyInt(), anyInt());
     }
 }
@@ -0,0 +1,263 @@
+package com.dgmf.service;
+
+import com.dgmf.entity.Employee;
+import com.dgmf.exception.ResourceAlreadyExistsException;
+import com.dgmf.service.impl.ReactiveEmployeeServiceImpl;
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs on an In-Memory R2DBC H2 Database with the Schema Hibernate
+// Generates on MySQL (Table-Backed "employees_seq")
+public class ReactiveEmployeeServiceImplTests {
+    private CloseableConnectionFactory connectionFactory;
+    private DatabaseClient databaseClient;
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    public void setup() {
+        connectionFactory = H2ConnectionFactory.inMemory(UUID.randomUUID().toString());
+        databaseClient = DatabaseClient.create(connectionFactory);
+
+        databaseClient.sql("CREATE TABLE employees (id BIGINT PRIMARY KEY, "
+                        + "first_name VARCHAR(255) NOT NULL, last_name VARCHAR(255) NOT NULL, "
+                        + "email VARCHAR(255) NOT NULL, version BIGINT DEFAULT 0 NOT NULL, "
+                        + "CONSTRAINT uk_employees_email UNIQUE (email))")
+                .then()
+                .then(databaseClient.sql("CREATE TABLE employees_seq (next_val BIGINT)").then())
+                .then(databaseClient.sql("INSERT INTO employees_seq VALUES (1)").then())
+                .then(databaseClient.sql("CREATE TABLE employee_outbox ("
+                        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "employee_id BIGINT NOT NULL, type VARCHAR(16) NOT NULL, "
+                        + "version BIGINT NOT NULL, first_name VARCHAR(255) NOT NULL, "
+                        + "last_name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, "
+                        + "occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL)").then())
+                .then(databaseClient.sql("CREATE TABLE employee_generation "
+                        + "(id BIGINT PRIMARY KEY, generation BIGINT NOT NULL)").then())
+                .then(databaseClient.sql("INSERT INTO employee_generation VALUES (1, 0)").then())
+                .block();
+
+        employeeService = new ReactiveEmployeeServiceImpl(
+                databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory))
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.close();
+    }
+
+    // JUnit Test for Save Employees Method
+    @Test
+    @DisplayName("JUnit Test for Save Employees Method")
+    void givenEmployeesList_whenSaveEmployees_thenIdsAreUniqueAndReservedInBlocks() {
+        // Given - Precondition or Setup
+        List<Employee> employees = IntStream.range(0, 60)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("employee" + i + "@gmail.com")
+                        .build())
+                .toList();
+
+        // When - Action or the Behavior that we are going to test
+        List<Employee> savedEmployees = employeeService.saveEmployees(employees)
+                .collectList()
+                .block();
+
+        // Then - Verify the Output
+        assertThat(savedEmployees).extracting(Employee::getId)
+                .doesNotHaveDuplicates()
+                .allMatch(id -> id >= 1 && id <= 101);
+        // Blocks Reserved: [1, 1] (Initial Value), then [2, 101]
+        assertThat(databaseClient.sql("SELECT next_val FROM employees_seq")
+                .map(row -> row.get("next_val", Long.class))
+                .one()
+                .block())
+                .isEqualTo(151L);
+    }
+
+    // JUnit Test for Save Employee Method - Negative Scenario
+    @Test
+    @DisplayName("JUnit Test for Save Employee Method - Negative Scenario")
+    void givenExistingEmail_whenSaveEmployee_thenThrowsResourceAlreadyExistsException() {
+        // Given - Precondition or Setup
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+        employeeService.saveEmployee(employee).block();
+
+        // When / Then - Action or the Behavior that we are going to test
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                .expectError(ResourceAlreadyExistsException.class)
+                .verify();
+    }
+
+    // JUnit Test for Save Employee Method - Other Integrity Violation
+    @Test
+    @DisplayName("JUnit Test for Save Employee Method - Other Integrity Violation")
+    void givenTakenId_whenSaveEmployee_thenThrowsDataIntegrityViolationException() {
+        // Given - Precondition or Setup
+        // The First Id Handed Out ([1, 1] is the Initial Block) is Taken
+        databaseClient.sql("INSERT INTO employees (id, first_name, last_name, email) "
+                        + "VALUES (1, 'Ivan', 'Attal', 'ivanattal@gmail.com')")
+                .then()
+                .block();
+        Employee employee = Employee.builder()
+                .firstName("Xavi")
+                .lastName("Disturb")
+                .email("xavidisturb@gmail.com")
+                .build();
+
+        // When / Then - Action or the Behavior that we are going to test
+        // Only a Duplicate Email is a Conflict with an Existing Employee
+        StepVerifier.create(employeeService.saveEmployee(employee))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    // JUnit Test for the Outbox Changes Recorded by Each Write (the
+    // Generation of the Table is Left to the Relay)
+    @Test
+    @DisplayName("JUnit Test for the Outbox Changes Recorded by Each Write")
+    void givenWrites_whenSaveUpdateAndDeleteEmployees_thenRecordChangesInOutbox() {
+        // Given - Precondition or Setup
+        Employee savedEmployee = employeeService.saveEmployee(Employee.builder()
+                        .firstName("Xavi")
+                        .lastName("Disturb")
+                        .email("xavidisturb@gmail.com")
+                        .build())
+                .block();
+        employeeService.saveEmployees(List.of(Employee.builder()
+                        .firstName("Ivan")
+                        .lastName("Attal")
+                        .email("ivanattal@gmail.com")
+                        .build()))
+                .blockLast();
+
+        // When - Action or the Behavior that we are going to test
+        employeeService.updateEmployee(Employee.builder()
+                        .id(savedEmployee.getId())
+                        .firstName("Xavi")
+                        .lastName("Disturb")
+                        .email("xavi.disturb@gmail.com")
+                        .build())
+                .block();
+        StepVerifier.create(employeeService.deleteEmployee(savedEmployee.getId()))
+                .expectNext(true)
+                .verifyComplete();
+        // Rolled Back Together: Neither Employee, Nor Change
+        StepVerifier.create(employeeService.saveEmployees(List.of(
+                        Employee.builder()
+                                .firstName("Jean")
+                                .lastName("Dujardin")
+                                .email("jeandujardin@gmail.com")
+                                .build(),
+                        Employee.builder()
+                                .firstName("Ivan")
+                                .lastName("Attal")
+                                .email("ivanattal@gmail.com")
+                                .build())))
+                .expectError(ResourceAlreadyExistsException.class)
+                .verify();
+        // A Missing Employee Records Nothing
+        StepVerifier.create(employeeService.deleteEmployee(savedEmployee.getId() + 1_000))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(employeeService.updateEmployee(Employee.builder()
+                        .id(savedEmployee.getId() + 1_000)
+                        .firstName("Xavi")
+                        .lastName("Disturb")
+                        .email("xavidisturb@gmail.com")
+                        .build()))
+                .verifyComplete();
+
+        // Then - Verify the Output
+        assertThat(databaseClient.sql("SELECT type, email, version "
+                        + "FROM employee_outbox ORDER BY id")
+                .map(row -> row.get("type", String.class) + " "
+                        + row.get("email", String.class) + " "
+                        + row.get("version", Long.class))
+                .all()
+                .collectList()
+                .block())
+                .containsExactly(
+                        "CREATED xavidisturb@gmail.com 0",
+                        "CREATED ivanattal@gmail.com 0",
+                        "UPDATED xavi.disturb@gmail.com 1",
+                        "DELETED xavi.disturb@gmail.com 1"
+                );
+        // No Write Locks the Generation Row
+        assertThat(databaseClient.sql("SELECT generation FROM employee_generation")
+                .map(row -> row.get("generation", Long.class))
+                .one()
+                .block())
+                .isEqualTo(0L);
+    }
+
+    // JUnit Test for Get Employees After Method (Keyset Pagination)
+    @Test
+    @DisplayName("JUnit Test for Get Employees After Method")
+    void givenEmployeesList_whenGetEmployeesAfter_thenReturnNextPageAndCursor() {
+        // Given - Precondition or Setup
+        employeeService.saveEmployees(IntStream.range(0, 5)
+                        .mapToObj(i -> Employee.builder()
+                                .firstName("First" + i)
+                                .lastName("Last" + i)
+                                .email("employee" + i + "@gmail.com")
+                                .build())
+                        .toList())
+                .blockLast();
+
+        // When / Then - Action or the Behavior that we are going to test
+        StepVerifier.create(employeeService.getEmployeesAfter(null, 3))
+                .assertNext(employeePage -> {
+                    assertThat(employeePage.getContent()).hasSize(3);
+                    assertThat(employeePage.getNextCursor()).isNotNull();
+                })
+                .verifyComplete();
+    }
+
+    // JUnit Test for Get All Employees Method (Backpressure)
+    @Test
+    @DisplayName("JUnit Test for Get All Employees Method")
+    void givenEmployeesList_whenGetAllEmployeesWithLimitedDemand_thenEmitOnlyRequested() {
+        // Given - Precondition or Setup
+        employeeService.saveEmployees(IntStream.range(0, 5)
+                        .mapToObj(i -> Employee.builder()
+                                .firstName("First" + i)
+                                .lastName("Last" + i)
+                                .email("employee" + i + "@gmail.com")
+                                .build())
+                        .toList())
+                .blockLast();
+
+        // When - Action or the Behavior that we are going to test
+        Flux<Employee> employees = employeeService.getAllEmployees();
+
+        // Then - Verify the Output
+        StepVerifier.create(employees, 2)
+                .expectNextCount(2)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,108 @@
+package com.dgmf.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Statements Run through an Embedded H2 Database Wrapped by the
+// Statistics DataSource
+public class SqlStatisticsTests {
+    private EmbeddedDatabase database;
+    private SqlStatistics sqlStatistics;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        sqlStatistics = new SqlStatistics(2, Duration.ofSeconds(1), 0);
+        jdbcTemplate = new JdbcTemplate(new SqlStatisticsDataSource(database, sqlStatistics));
+        jdbcTemplate.execute("CREATE TABLE employees (id BIGINT, email VARCHAR(255))");
+        sqlStatistics.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    // JUnit Test for Normalizing Statements into Shapes
+    @Test
+    @DisplayName("JUnit Test for Normalizing Statements into Shapes")
+    public void givenStatementsWithLiterals_whenNormalize_thenReturnShape() {
+        // Given - Precondition or Setup
+        String sql = "select *  from employees\n where id in (1, 2, 3) and email = 'a''b@c.d'";
+
+        // When - Action or the Behaviour that we are going to test
+        String shape = SqlStatistics.normalize(sql);
+
+        // Then - Verify the output
+        assertThat(shape).isEqualTo("select * from employees where id in (?, ...) and email = ?");
+    }
+
+    // JUnit Test for Aggregating Statements per Shape
+    @Test
+    @DisplayName("JUnit Test for Aggregating Statements per Shape")
+    public void givenStatements_whenExecute_thenAggregatePerShape() {
+        // Given - Precondition or Setup
+        String insert = "INSERT INTO employees (id, email) VALUES (?, ?)";
+
+        // When - Action or the Behaviour that we are going to test
+        jdbcTemplate.update(insert, 1, "a@b.c");
+        jdbcTemplate.update(insert, 2, "d@e.f");
+        jdbcTemplate.queryForList("SELECT id FROM employees WHERE id > 0", Long.class);
+
+        // Then - Verify the output
+        List<SqlStatistics.SqlShape> shapes = sqlStatistics.getShapes();
+        assertThat(shapes).hasSize(2);
+        assertThat(shapes)
+                .filteredOn(shape -> shape.sql().equals(insert))
+                .singleElement()
+                .satisfies(shape -> {
+                    assertThat(shape.count()).isEqualTo(2);
+                    assertThat(shape.rows()).isEqualTo(2);
+                    assertThat(shape.maxMillis()).isPositive();
+                });
+        assertThat(shapes)
+                .filteredOn(shape -> shape.sql().equals("SELECT id FROM employees WHERE id > ?"))
+                .singleElement()
+                .satisfies(shape -> {
+                    assertThat(shape.count()).isEqualTo(1);
+                    assertThat(shape.rows()).isEqualTo(2);
+                });
+    }
+
+    // JUnit Test for Bounding the Number of Shapes
+    @Test
+    @DisplayName("JUnit Test for Bounding the Number of Shapes")
+    public void givenMoreShapesThanMax_whenExecute_thenCountExtraShapesTogether() {
+        // Given - Precondition or Setup
+        jdbcTemplate.queryForList("SELECT id FROM employees", Long.class);
+        jdbcTemplate.queryForList("SELECT email FROM employees", String.class);
+
+        // When - Action or the Behaviour that we are going to test
+        jdbcTemplate.queryForList("SELECT id, email FROM employees");
+        jdbcTemplate.update("DELETE FROM employees");
+
+        // Then - Verify the output
+        assertThat(sqlStatistics.getShapes())
+                .extracting(SqlStatistics.SqlShape::sql)
+                .containsExactlyInAnyOrder(
+                        "SELECT id FROM employees",
+                        "SELECT email FROM employees",
+                        SqlStatistics.OTHER_SHAPES
+                );
+    }
+}